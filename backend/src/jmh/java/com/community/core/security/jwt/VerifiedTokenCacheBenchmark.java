@@ -0,0 +1,70 @@
+package com.community.core.security.jwt;
+
+import com.community.domain.user.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 검증된 토큰 캐시 마이크로 벤치마크 (캐시 적중 vs 매번 서명 검증)
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerifiedTokenCacheBenchmark {
+
+    /**
+     * 순환하며 검증할 토큰 수 (캐시 크기는 전부 담을 수 있게 설정)
+     */
+    @Param({"1000"})
+    private int tokenCount;
+
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private List<String> tokens;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-minimum-32-characters-long");
+        properties.setVerifiedCacheSize(tokenCount * 2);
+
+        jwtProvider = new JwtProvider(properties);
+        verifiedTokenCache = new VerifiedTokenCache(jwtProvider, properties);
+        tokens = LongStream.rangeClosed(1, tokenCount)
+                .mapToObj(userId -> jwtProvider.createAccessToken(userId, "user" + userId + "@community.com", Role.USER))
+                .toList();
+        // 캐시 적중 경로만 측정하도록 미리 적재
+        tokens.forEach(verifiedTokenCache::verify);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> uncached() {
+        return jwtProvider.verify(nextToken());
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> cached() {
+        return verifiedTokenCache.verify(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens.get(next);
+        next = next + 1 == tokens.size() ? 0 : next + 1;
+        return token;
+    }
+}
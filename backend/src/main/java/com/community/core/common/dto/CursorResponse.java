@@ -0,0 +1,34 @@
+package com.community.core.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션 DTO
+ *
+ * <p>OFFSET 대신 마지막 행의 정렬 키를 커서로 넘겨 다음 페이지를 조회합니다.</p>
+ * <p>totalElements는 요청한 경우에만 채워집니다 (카운트 쿼리 생략 시 null).</p>
+ * @param <T>
+ */
+@Getter
+@Builder
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final Long totalElements;
+
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor, Long totalElements) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.community.core.common.dto;
+
+import com.community.core.exception.ErrorCode;
+import com.community.core.exception.custom.BadRequestException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기반 keyset 커서
+ *
+ * <p>클라이언트에는 Base64(URL-safe) 문자열로 전달되는 불투명(opaque) 커서입니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열 → KeysetCursor
+     *
+     * @param cursor 커서 문자열 (없으면 첫 페이지)
+     * @return KeysetCursor (첫 페이지면 null)
+     * @throws BadRequestException 커서 형식이 올바르지 않을 때
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * KeysetCursor → 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package com.community.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 카운터 버퍼 flush 등 주기 작업에 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
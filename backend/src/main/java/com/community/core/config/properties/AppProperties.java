@@ -17,6 +17,12 @@ public class AppProperties {
 
     private User user = new User();
     private OAuth2 oauth2 = new OAuth2();
+    private Post post = new Post();
+    private Counter counter = new Counter();
+    private Board board = new Board();
+    private Reaction reaction = new Reaction();
+    private Ranking ranking = new Ranking();
+    private Tag tag = new Tag();
 
     @Getter
     @Setter
@@ -25,6 +31,11 @@ public class AppProperties {
          * 닉네임 변경 제한 일수 (기본값: 30일)
          */
         private int nicknameChangeIntervalDays = 30;
+
+        /**
+         * 현재 사용자(@CurrentUser User) 로컬 캐시 TTL (초, 기본값: 30초)
+         */
+        private long cacheTtlSeconds = 30;
     }
 
     @Getter
@@ -35,4 +46,124 @@ public class AppProperties {
          */
         private String redirectUrl = "http://localhost:3000/oauth2/callback";
     }
+
+    @Getter
+    @Setter
+    public static class Post {
+        /**
+         * 조회수 버퍼 DB 반영 주기 (밀리초, 기본값: 30초)
+         */
+        private long viewCountFlushDelayMs = 30000;
+
+        /**
+         * 공지 목록 Redis 캐시 TTL (초, 기본값: 10분)
+         */
+        private long noticeCacheTtlSeconds = 600;
+
+        /**
+         * 공지 목록 로컬 캐시 TTL (초, 기본값: 30초)
+         */
+        private long noticeLocalCacheTtlSeconds = 30;
+
+        /**
+         * 게시글 상세 캐시 TTL (초, 기본값: 5분)
+         */
+        private long detailCacheTtlSeconds = 300;
+
+        /**
+         * 홈 피드 게시판별 최신 게시글 수 (기본값: 10)
+         */
+        private int homeFeedSize = 10;
+
+        /**
+         * 홈 피드 캐시 TTL (초, 기본값: 5분, 만료 시 조회수/댓글 수 등을 새로 읽음)
+         */
+        private long homeFeedCacheTtlSeconds = 300;
+    }
+
+    @Getter
+    @Setter
+    public static class Counter {
+        /**
+         * Redis 카운터 버퍼 샤드 수 (기본값: 8)
+         */
+        private int shards = 8;
+
+        /**
+         * 샤드별 drain lease (밀리초, 기본값: 60초)
+         * 반영 중 프로세스가 죽으면 이 시간이 지나 넘겨받은 증감분이 버려지고 다른 인스턴스가 다음 샤드를 drain 합니다.
+         */
+        private long drainLeaseMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class Board {
+        /**
+         * 게시판 레지스트리 주기적 재로딩 간격 (밀리초, 기본값: 5분)
+         */
+        private long registryRefreshDelayMs = 300000;
+    }
+
+    @Getter
+    @Setter
+    public static class Reaction {
+        /**
+         * 반응 수 카운터 DB 반영 주기 (밀리초, 기본값: 10초)
+         */
+        private long counterFlushDelayMs = 10000;
+
+        /**
+         * 비동기 반응 수집 사용 여부 (기본값: false)
+         */
+        private boolean asyncIngestion = false;
+
+        /**
+         * 비동기 반응 수집 큐 최대 크기 ((사용자, 대상) 기준, 기본값: 10000)
+         */
+        private int ingestionCapacity = 10000;
+
+        /**
+         * 비동기 반응 수집 큐 DB 반영 주기 (밀리초, 기본값: 200)
+         */
+        private long ingestionFlushDelayMs = 200;
+
+        /**
+         * 비동기 반응 수집 JDBC 배치 크기 (기본값: 500)
+         */
+        private int ingestionBatchSize = 500;
+
+        /**
+         * 사용자별 반응 캐시 TTL (초, 기본값: 1일)
+         */
+        private long membershipCacheTtlSeconds = 86400;
+    }
+
+    @Getter
+    @Setter
+    public static class Ranking {
+        /**
+         * 인기 게시글 집계 기간 (일, 기본값: 7일)
+         */
+        private int windowDays = 7;
+
+        /**
+         * 랭킹별 최대 보관 게시글 수 (기본값: 1000)
+         */
+        private int maxSize = 1000;
+
+        /**
+         * 랭킹 정리 주기 (밀리초, 기본값: 10분)
+         */
+        private long pruneDelayMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Tag {
+        /**
+         * 태그 자동완성 인덱스 주기적 재로딩 간격 (밀리초, 기본값: 5분, 사용 횟수 반영용)
+         */
+        private long autocompleteRefreshDelayMs = 300000;
+    }
 }
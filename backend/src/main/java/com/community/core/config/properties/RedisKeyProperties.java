@@ -34,4 +34,14 @@ public class RedisKeyProperties {
      * 이메일 인증 코드 키 프리픽스
      */
     private String emailVerification = "email_verification:";
+
+    /**
+     * 카운터 버퍼 키 프리픽스 (조회수 등 write-behind 카운터)
+     */
+    private String counter = "counter:";
+
+    /**
+     * 랭킹 키 프리픽스 (인기 게시글 등 Sorted Set)
+     */
+    private String ranking = "ranking:";
 }
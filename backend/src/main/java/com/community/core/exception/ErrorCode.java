@@ -15,6 +15,7 @@ public enum ErrorCode {
     CONFLICT(409, "C006", "리소스 충돌이 발생했습니다."),
     INTERNAL_ERROR(500, "C007", "서버 오류가 발생했습니다."),
     INVALID_INPUT(400, "C008", "입력값이 올바르지 않습니다."),
+    INVALID_CURSOR(400, "C009", "유효하지 않은 커서입니다."),
 
     // ========== Auth (A) ==========
     INVALID_TOKEN(401, "A001", "유효하지 않은 토큰입니다."),
@@ -65,6 +66,7 @@ public enum ErrorCode {
     CANNOT_REACT_OWN_CONTENT(403, "RC001", "본인의 글/댓글에는 반응할 수 없습니다."),
     TARGET_ALREADY_DELETED(400, "RC002", "삭제된 글/댓글에는 반응할 수 없습니다."),
     REACTION_NOT_FOUND(404, "RC003", "반응을 찾을 수 없습니다."),
+    REACTION_QUEUE_FULL(429, "RC004", "반응 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     //=========== Bookmark =============
     BOOKMARK_NOT_FOUND(404, "BK001", "북마크를 찾을 수 없습니다."),
 
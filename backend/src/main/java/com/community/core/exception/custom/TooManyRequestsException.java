@@ -0,0 +1,10 @@
+package com.community.core.exception.custom;
+
+import com.community.core.exception.BusinessException;
+import com.community.core.exception.ErrorCode;
+
+public class TooManyRequestsException extends BusinessException {
+    public TooManyRequestsException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
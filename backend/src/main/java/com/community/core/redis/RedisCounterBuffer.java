@@ -0,0 +1,273 @@
+package com.community.core.redis;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis 카운터 버퍼 (write-behind)
+ *
+ * <p>증감분을 Redis Hash에 HINCRBY로 누적하고, 스케줄러가 주기적으로 drain 하여 DB에 일괄 반영합니다.</p>
+ * <p>버퍼는 샤드 수만큼의 Hash 키로 나뉘어 저장되므로 하나의 키에 쓰기가 몰리지 않습니다.</p>
+ * <p>여러 인스턴스가 같은 스케줄로 drain 해도 샤드별 lease(SET NX PX)를 잡은 인스턴스만 반영하고,
+ * 증감분은 Lua 스크립트로 drain 마다 고유한 키에 넘겨받으므로 같은 증감분이 두 번 반영되지 않습니다.
+ * 넘겨받은 키는 lease 동안만 살아 있어, 반영 도중 프로세스가 죽으면 다시 반영하는 대신 버립니다 (최대 1회 반영).</p>
+ *
+ * <pre>
+ * {counter-prefix}{buffer}:{shard}                    → 누적 중인 증감분 (field: 대상 키, value: delta)
+ * {counter-prefix}{buffer}:{shard}:flushing:{drainId} → DB 반영 중인 증감분 (lease 만료 시 삭제)
+ * {counter-prefix}{buffer}:{shard}:flushing           → 반영 중인 키 이름 (조회 시 합산용)
+ * {counter-prefix}{buffer}:{shard}:lock               → drain lease (값: drainId)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCounterBuffer {
+
+    private static final String FLUSHING_SUFFIX = ":flushing";
+    private static final String LOCK_SUFFIX = ":lock";
+
+    /**
+     * 누적 키 → drain 고유 키 넘겨받기 (RENAME + 만료 + 포인터 기록을 한 번에)
+     * KEYS: 누적 키, 포인터 키, drain 키 / ARGV: lease(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HANDOFF_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            redis.call('RENAME', KEYS[1], KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[1])
+            redis.call('SET', KEYS[2], KEYS[3], 'PX', ARGV[1])
+            return redis.call('HGETALL', KEYS[3])
+            """, List.class);
+
+    /**
+     * 반영 완료: drain 키 삭제 (포인터가 이 drain 을 가리킬 때만 함께 삭제)
+     * KEYS: 포인터 키, drain 키
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2])
+            if redis.call('GET', KEYS[1]) == KEYS[2] then
+                redis.call('DEL', KEYS[1])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 반영 실패: drain 키의 증감분을 누적 키로 되돌리고 삭제
+     * KEYS: 누적 키, 포인터 키, drain 키
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[3])
+            for i = 1, #entries, 2 do
+                redis.call('HINCRBY', KEYS[1], entries[i], entries[i + 1])
+            end
+            redis.call('DEL', KEYS[3])
+            if redis.call('GET', KEYS[2]) == KEYS[3] then
+                redis.call('DEL', KEYS[2])
+            end
+            return #entries / 2
+            """, Long.class);
+
+    /**
+     * lease 해제 (내가 잡은 lease 일 때만)
+     * KEYS: lock 키 / ARGV: drainId
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+
+    /**
+     * 증감분 누적
+     *
+     * @param buffer 버퍼 이름
+     * @param field  대상 키
+     * @param delta  증감분
+     * @return 아직 DB에 반영되지 않은 누적 증감분
+     */
+    public long increment(String buffer, String field, long delta) {
+        Long pending = redisTemplate.opsForHash().increment(shardKey(buffer, field), field, delta);
+        return pending != null ? pending : 0L;
+    }
+
+    /**
+     * 누적 증감분 조회 (단건)
+     *
+     * @param buffer 버퍼 이름
+     * @param field  대상 키
+     * @return 누적 증감분 (없으면 0)
+     */
+    public long get(String buffer, String field) {
+        Object value = redisTemplate.opsForHash().get(shardKey(buffer, field), field);
+        return parse(value);
+    }
+
+    /**
+     * 누적 증감분 일괄 조회 (파이프라인 1회 왕복)
+     *
+     * <p>DB 반영 중인 drain 키의 증감분도 함께 더해, drain 도중에도 값이 빠지지 않도록 합니다.
+     * 반영 중인 샤드가 있을 때만 두 번째 왕복이 생깁니다.</p>
+     *
+     * @param buffer 버퍼 이름
+     * @param fields 대상 키 목록
+     * @return 대상 키 → 누적 증감분 (없는 키는 0)
+     */
+    public Map<String, Long> getAll(String buffer, Collection<String> fields) {
+        if (fields.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<String>> fieldsByShard = new LinkedHashMap<>();
+        fields.forEach(field -> fieldsByShard
+                .computeIfAbsent(shardKey(buffer, field), key -> new ArrayList<>())
+                .add(field));
+
+        // 1. 누적 키 HMGET + 반영 중인 drain 키 이름
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            fieldsByShard.forEach((key, shardFields) -> {
+                connection.hashCommands().hMGet(bytes(key), rawFields(shardFields));
+                connection.stringCommands().get(bytes(key + FLUSHING_SUFFIX));
+            });
+            return null;
+        });
+
+        Map<String, Long> result = new HashMap<>(fields.size() * 2);
+        Map<String, List<String>> flushingFields = new LinkedHashMap<>();
+        int reply = 0;
+        for (List<String> shardFields : fieldsByShard.values()) {
+            List<?> pending = (List<?>) replies.get(reply++);
+            Object flushingKey = replies.get(reply++);
+            for (int i = 0; i < shardFields.size(); i++) {
+                result.put(shardFields.get(i), parse(pending.get(i)));
+            }
+            if (flushingKey != null) {
+                flushingFields.put(flushingKey.toString(), shardFields);
+            }
+        }
+        if (flushingFields.isEmpty()) {
+            return result;
+        }
+
+        // 2. 반영 중인 drain 키 HMGET (해당 샤드만)
+        List<Object> flushingReplies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            flushingFields.forEach((key, shardFields) -> connection.hashCommands().hMGet(bytes(key), rawFields(shardFields)));
+            return null;
+        });
+        reply = 0;
+        for (List<String> shardFields : flushingFields.values()) {
+            List<?> flushing = (List<?>) flushingReplies.get(reply++);
+            for (int i = 0; i < shardFields.size(); i++) {
+                result.merge(shardFields.get(i), parse(flushing.get(i)), Long::sum);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 누적 증감분을 꺼내 DB에 반영
+     *
+     * <p>샤드별 lease 를 잡은 뒤 누적 키를 drain 고유 키로 넘겨받으므로, 반영 중에 들어온 증감분은 새 누적 키에 쌓이고
+     * 다른 인스턴스는 같은 샤드를 건너뜁니다.</p>
+     * <p>applier는 DB 커밋에 실패했을 때만 예외를 던져야 합니다. 예외가 나면 증감분을 누적 키로 되돌려 다음 drain 에서 다시 반영합니다.</p>
+     *
+     * @param buffer  버퍼 이름
+     * @param applier 대상 키 → 증감분을 DB에 반영하는 함수
+     */
+    public void drain(String buffer, Consumer<Map<String, Long>> applier) {
+        Duration lease = Duration.ofMillis(appProperties.getCounter().getDrainLeaseMs());
+        for (int shard = 0; shard < shards(); shard++) {
+            String key = bufferKey(buffer, shard);
+            String lockKey = key + LOCK_SUFFIX;
+            String drainId = UUID.randomUUID().toString();
+
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, drainId, lease))) {
+                log.debug("[Redis] 카운터 버퍼 drain 건너뜀 (다른 인스턴스가 반영 중): buffer={}, shard={}", buffer, shard);
+                continue;
+            }
+            try {
+                drainShard(key, key + FLUSHING_SUFFIX + ":" + drainId, lease, applier);
+            } finally {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), drainId);
+            }
+        }
+    }
+
+    private void drainShard(String key, String drainKey, Duration lease, Consumer<Map<String, Long>> applier) {
+        String pointerKey = key + FLUSHING_SUFFIX;
+        List<?> entries = redisTemplate.execute(HANDOFF_SCRIPT, List.of(key, pointerKey, drainKey),
+                String.valueOf(lease.toMillis()));
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> deltas = new HashMap<>(entries.size());
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = parse(entries.get(i + 1));
+            if (delta != 0) {
+                deltas.put(entries.get(i).toString(), delta);
+            }
+        }
+
+        try {
+            if (!deltas.isEmpty()) {
+                applier.accept(deltas);
+            }
+        } catch (RuntimeException e) {
+            redisTemplate.execute(RESTORE_SCRIPT, List.of(key, pointerKey, drainKey));
+            throw e;
+        }
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(pointerKey, drainKey));
+
+        log.debug("[Redis] 카운터 버퍼 반영: key={}, size={}", key, deltas.size());
+    }
+
+    private String shardKey(String buffer, String field) {
+        return bufferKey(buffer, Math.floorMod(field.hashCode(), shards()));
+    }
+
+    private String bufferKey(String buffer, int shard) {
+        return redisKeyProperties.getCounter() + buffer + ":" + shard;
+    }
+
+    private int shards() {
+        return Math.max(1, appProperties.getCounter().getShards());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] rawFields(List<String> fields) {
+        return fields.stream().map(RedisCounterBuffer::bytes).toArray(byte[][]::new);
+    }
+
+    private long parse(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
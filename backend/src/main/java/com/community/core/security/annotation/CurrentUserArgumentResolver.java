@@ -2,8 +2,9 @@ package com.community.core.security.annotation;
 
 import com.community.core.exception.ErrorCode;
 import com.community.core.exception.custom.UnauthorizedException;
+import com.community.core.security.jwt.AuthUser;
 import com.community.domain.user.entity.User;
-import com.community.domain.user.repository.UserRepository;
+import com.community.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.MethodParameter;
@@ -20,10 +21,10 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @RequiredArgsConstructor
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
-     * @CurrentUser 있고 Long 타입인 경우 처리
+     * @CurrentUser 있고 Long / AuthUser / User 타입인 경우 처리
      * @param parameter UserId
      * @return 있으면 true 없으면 False
      */
@@ -34,7 +35,8 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
         }
 
         Class<?> parameterType = parameter.getParameterType();
-        return Long.class.equals(parameterType) || User.class.equals(parameterType);
+        return Long.class.equals(parameterType) || AuthUser.class.equals(parameterType)
+                || User.class.equals(parameterType);
     }
 
     @Override
@@ -57,28 +59,28 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             return null;  // required = false인 경우 null 반환
         }
 
-        // 4. Principal에서 userId 추출
-        Object principal = authentication.getPrincipal();
-
-        if (!(principal instanceof Long)) {
+        // 4. Principal(JWT 클레임)에서 사용자 정보 추출
+        if (!(authentication.getPrincipal() instanceof AuthUser authUser)) {
             if (required) {
                 throw new UnauthorizedException(ErrorCode.UNAUTHORIZED);
             }
             return null;
         }
 
-        Long userId = (Long) principal;
-
         // 5. 파라미터 타입에 따라 반환
         Class<?> parameterType = parameter.getParameterType();
 
         if (Long.class.equals(parameterType)) {
-            return userId;
+            return authUser.id();
+        }
+
+        if (AuthUser.class.equals(parameterType)) {
+            return authUser;
         }
 
         if (User.class.equals(parameterType)) {
-            // User 엔티티 조회
-            return userRepository.findById(userId)
+            // User 엔티티 조회 (짧은 TTL 캐시, 읽기 전용)
+            return userCache.get(authUser.id())
                     .orElseThrow(() -> new UnauthorizedException(ErrorCode.UNAUTHORIZED));
         }
 
@@ -0,0 +1,22 @@
+package com.community.core.security.jwt;
+
+import com.community.domain.user.entity.Role;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 (SecurityContext principal)
+ *
+ * <p>Access Token에 이미 담긴 ID/이메일/권한만 사용하므로 요청마다 사용자를 조회하지 않습니다.
+ * 닉네임 등 엔티티 정보가 필요 없는 엔드포인트는 {@code @CurrentUser AuthUser}로 받습니다.</p>
+ * <p>{@code role}은 토큰 발급 시점의 클레임이라 권한이 바뀌어도 토큰 만료 전까지 그대로이므로 인가 판단에 쓰지 않습니다.
+ * 관리자 확인은 {@code @CurrentUser User}의 {@code isAdmin()}으로 합니다.</p>
+ *
+ * @param id    사용자 ID
+ * @param email 이메일
+ * @param role  토큰 발급 시점의 권한 (참고용)
+ */
+public record AuthUser(Long id, String email, Role role) {
+
+    static AuthUser from(VerifiedToken token) {
+        return new AuthUser(token.userId(), token.email(), token.role() != null ? Role.valueOf(token.role()) : null);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -23,24 +24,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
          //1. 요청에서 토큰 추출
         String token = extractToken(request);
 
-        //2. 토큰 검증 및 인증 정보 설정
-        if(StringUtils.hasText(token) && jwtProvider.validateToken(token)){
-            Long userId = jwtProvider.getUserIdFromToken(token);
+        //2. 토큰 검증 및 인증 정보 설정 (이미 검증한 토큰은 캐시, 아니면 한 번만 파싱)
+        Optional<VerifiedToken> verified = StringUtils.hasText(token) ? verifiedTokenCache.verify(token) : Optional.empty();
+        // Refresh Token으로는 API 인증 불가
+        verified.filter(verifiedToken -> !verifiedToken.refresh()).ifPresent(verifiedToken -> {
+            AuthUser authUser = AuthUser.from(verifiedToken);
 
-            //3. Authentication 객체 생성 및 SecurityContext에 설정
+            //3. Authentication 객체 생성 및 SecurityContext에 설정 (principal = 토큰 클레임, DB 조회 X)
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken
-                    (userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                    (authUser, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Security Context에 인증 정보 저장: userId={}", userId);
-        }
+            log.debug("Security Context에 인증 정보 저장: userId={}", authUser.id());
+        });
         filterChain.doFilter(request, response);
     }
 
@@ -15,4 +15,9 @@ public class JwtProperties {
     private long accessTokenValidity = 3600;
     private long refreshTokenValidity = 1209600;
 
+    /**
+     * 검증된 Access Token 캐시 최대 크기 (0이면 캐시 사용 안 함)
+     */
+    private int verifiedCacheSize = 10000;
+
 }
@@ -3,20 +3,31 @@ package com.community.core.security.jwt;
 import com.community.domain.user.entity.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
     private final JwtProperties jwtProperties;
 
+    /**
+     * 서명 키 / 파서 (불변, 스레드 안전 → 기동 시 한 번만 생성)
+     */
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     /**
      * JWT 생성
      * @param userId 사용자 ID
@@ -34,7 +45,7 @@ public class JwtProvider {
                 .claim("role",role.name())
                 .issuedAt(now)
                 .expiration(expire)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
 
     }
@@ -53,24 +64,18 @@ public class JwtProvider {
                 .claim("type","refresh")
                 .issuedAt(now)
                 .expiration(expire)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token){
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
-    }
-
     /**
-     * 토큰에서 사용자 ID 추출
+     * 토큰 검증 (서명/만료 확인과 클레임 추출을 한 번의 파싱으로 처리)
      * @param token JWT
-     * @return 사용자 ID
+     * @return 검증된 토큰 정보 (유효하지 않으면 empty)
      */
-    public boolean validateToken(String token){
+    public Optional<VerifiedToken> verify(String token){
         try{
-            parseClaims(token);
-            return true;
+            return Optional.of(VerifiedToken.from(parseClaims(token)));
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -79,8 +84,11 @@ public class JwtProvider {
             log.warn("지원되지 않는 JWT 토큰입니다.");
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 잘못되었습니다.");
+        } catch (JwtException e) {
+            // 서명 불일치(io.jsonwebtoken.security.SignatureException) 등
+            log.warn("유효하지 않은 JWT 토큰입니다.");
         }
-        return false;
+        return Optional.empty();
     }
 
 
@@ -90,16 +98,6 @@ public class JwtProvider {
      * @return Claims
      */
     public Claims parseClaims(String token){
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
-    }
-
-    /**
-     * 서명 키 생성
-     *
-     * @return SecretKey
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
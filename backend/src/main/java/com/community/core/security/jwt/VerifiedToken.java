@@ -0,0 +1,33 @@
+package com.community.core.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증이 끝난 토큰 정보
+ *
+ * <p>{@link JwtProvider#verify(String)}가 토큰을 한 번만 파싱해 필요한 클레임을 담아 반환합니다.</p>
+ *
+ * @param userId    사용자 ID (subject)
+ * @param email     이메일 (Access Token만, Refresh Token이면 null)
+ * @param role      권한 (Access Token만, Refresh Token이면 null)
+ * @param refresh   Refresh Token 여부
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(Long userId, String email, String role, boolean refresh, Instant expiresAt) {
+
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TYPE_CLAIM = "type";
+    private static final String REFRESH_TYPE = "refresh";
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get(EMAIL_CLAIM, String.class),
+                claims.get(ROLE_CLAIM, String.class),
+                REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class)),
+                claims.getExpiration().toInstant());
+    }
+}
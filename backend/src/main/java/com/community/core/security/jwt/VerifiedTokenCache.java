@@ -0,0 +1,165 @@
+package com.community.core.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 Access Token 캐시
+ *
+ * <p>SPA는 만료될 때까지 같은 Access Token을 매 요청 보내므로, 한 번 검증한 토큰의 클레임을 만료 시각까지 보관해
+ * 이후 요청은 서명 검증과 Base64/JSON 디코딩 없이 인증합니다.</p>
+ * <p>키는 토큰의 SHA-256 digest 입니다. 힙 덤프에 원본 토큰(자격 증명)이 남지 않고, 충돌 저항성이 있어
+ * 다른 토큰이 같은 키로 적중할 수 없습니다.</p>
+ * <p>검증에 실패한 토큰과 Refresh Token은 캐시하지 않습니다. 캐시는 digest 로 나눈 세그먼트별 LRU 이며,
+ * 가득 차면 가장 오래 쓰이지 않은 항목 하나만 내보냅니다. {@code jwt.verified-cache-size}가 0이면 사용하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * 세그먼트 수 (세그먼트마다 잠금이 따로라 요청 스레드가 한 잠금에 몰리지 않음)
+     */
+    private static final int SEGMENTS = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtProvider jwtProvider;
+    private final JwtProperties jwtProperties;
+
+    private final Map<ByteBuffer, VerifiedToken>[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 직전 적중률 기록 시점의 누적 값 (logStats 스케줄러 스레드 전용)
+     */
+    private Stats lastLogged = new Stats(0, 0, 0);
+
+    /**
+     * 캐시 통계 (기동 이후 누적)
+     *
+     * @param hits   적중 수
+     * @param misses 미스 수 (서명 검증 수행)
+     * @param size   현재 항목 수
+     */
+    public record Stats(long hits, long misses, int size) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : hits * 100.0 / total;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public VerifiedTokenCache(JwtProvider jwtProvider, JwtProperties jwtProperties) {
+        this.jwtProvider = jwtProvider;
+        this.jwtProperties = jwtProperties;
+
+        // 세그먼트마다 접근 순서 LinkedHashMap (세그먼트 크기 = 최대 크기 / 세그먼트 수)
+        int capacity = Math.max(1, jwtProperties.getVerifiedCacheSize() / SEGMENTS);
+        this.segments = new Map[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ByteBuffer, VerifiedToken> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    /**
+     * 토큰 검증 (캐시 → {@link JwtProvider#verify(String)} 순)
+     *
+     * @param token JWT
+     * @return 검증된 토큰 정보 (유효하지 않거나 만료되면 empty)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (jwtProperties.getVerifiedCacheSize() <= 0) {
+            return jwtProvider.verify(token);
+        }
+
+        ByteBuffer key = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+        Map<ByteBuffer, VerifiedToken> segment = segment(key);
+
+        VerifiedToken cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+            if (cached != null && !cached.expiresAt().isAfter(Instant.now())) {
+                segment.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Optional<VerifiedToken> verified = jwtProvider.verify(token);
+        verified.filter(verifiedToken -> !verifiedToken.refresh()).ifPresent(verifiedToken -> {
+            synchronized (segment) {
+                segment.put(key, verifiedToken);
+            }
+        });
+        return verified;
+    }
+
+    private Map<ByteBuffer, VerifiedToken> segment(ByteBuffer key) {
+        return segments[Math.floorMod(key.hashCode(), SEGMENTS)];
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 기동 이후 누적 적중/미스 수와 현재 크기
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), size());
+    }
+
+    private int size() {
+        int size = 0;
+        for (Map<ByteBuffer, VerifiedToken> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 적중률 기록 (직전 기록 이후 구간 기준)
+     */
+    @Scheduled(fixedDelayString = "${jwt.verified-cache-stats-delay-ms:300000}",
+            initialDelayString = "${jwt.verified-cache-stats-delay-ms:300000}")
+    public void logStats() {
+        Stats current = getStats();
+        Stats interval = new Stats(current.hits() - lastLogged.hits(), current.misses() - lastLogged.misses(), current.size());
+        lastLogged = current;
+        if (interval.hits() + interval.misses() == 0) {
+            return;
+        }
+        log.info("[JWT_CACHE] 토큰 캐시 적중률: hits={}, misses={}, hitRate={}%, size={}",
+                interval.hits(), interval.misses(), String.format("%.1f", interval.hitRate()), interval.size());
+    }
+}
@@ -4,6 +4,7 @@ import com.community.core.exception.ErrorCode;
 import com.community.core.exception.custom.UnauthorizedException;
 import com.community.core.security.jwt.JwtProperties;
 import com.community.core.security.jwt.JwtProvider;
+import com.community.core.security.jwt.VerifiedToken;
 import com.community.domain.auth.dto.request.LoginRequest;
 import com.community.domain.auth.dto.request.TokenRefreshRequest;
 import com.community.domain.auth.dto.response.TokenResponse;
@@ -75,13 +76,10 @@ public class AuthService {
     public TokenResponse refresh(TokenRefreshRequest request){
         String refreshToken = request.getRefreshToken();
 
-        //refresh Token 검증
-        if(!jwtProvider.validateToken(refreshToken)){
-            throw new UnauthorizedException(ErrorCode.INVALID_REFRESH_TOKEN);
-        }
-
-        //refresh Token 에서 사용자 ID 추출
-        Long userId = jwtProvider.getUserIdFromToken(refreshToken);
+        //refresh Token 검증 + 사용자 ID 추출 (한 번만 파싱)
+        Long userId = jwtProvider.verify(refreshToken)
+                .map(VerifiedToken::userId)
+                .orElseThrow(() -> new UnauthorizedException(ErrorCode.INVALID_REFRESH_TOKEN));
 
         // Redis에 저장된 RefreshToken과 비교
         if (!refreshTokenService.validateRefreshToken(userId, refreshToken)) {
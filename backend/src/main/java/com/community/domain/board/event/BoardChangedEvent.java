@@ -0,0 +1,16 @@
+package com.community.domain.board.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시판 변경 이벤트 (생성/수정/활성화 토글/삭제)
+ *
+ * <p>커밋 이후 {@link com.community.domain.board.service.BoardRegistry} 스냅샷을 다시 읽는 데 사용합니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardChangedEvent {
+
+    private final Long boardId;
+}
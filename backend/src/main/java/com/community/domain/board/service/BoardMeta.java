@@ -0,0 +1,46 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.entity.Board;
+import com.community.domain.board.entity.BoardType;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게시판 메타 정보 (불변)
+ *
+ * <p>{@link BoardRegistry} 스냅샷에 보관되며, 요청 처리 중 boards 테이블 조회를 대신합니다.</p>
+ */
+@Getter
+public class BoardMeta {
+
+    private final Long id;
+    private final String slug;
+    private final String name;
+    private final BoardType boardType;
+    private final Map<String, Object> settings;
+    private final int displayOrder;
+    private final boolean active;
+    private final boolean writeRequiresLogin;
+    private final boolean commentRequiresLogin;
+
+    private BoardMeta(Board board) {
+        this.id = board.getId();
+        this.slug = board.getSlug();
+        this.name = board.getName();
+        this.boardType = board.getBoardType();
+        this.settings = board.getSettings() != null
+                ? Collections.unmodifiableMap(new HashMap<>(board.getSettings()))
+                : Map.of();
+        this.displayOrder = board.getDisplayOrder();
+        this.active = board.isActive();
+        this.writeRequiresLogin = board.isWriteRequiresLogin();
+        this.commentRequiresLogin = board.isCommentRequiresLogin();
+    }
+
+    public static BoardMeta from(Board board) {
+        return new BoardMeta(board);
+    }
+}
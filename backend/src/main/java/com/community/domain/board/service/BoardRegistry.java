@@ -0,0 +1,167 @@
+package com.community.domain.board.service;
+
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.core.exception.ErrorCode;
+import com.community.core.exception.custom.NotFoundException;
+import com.community.domain.board.event.BoardChangedEvent;
+import com.community.domain.board.repository.BoardRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 레지스트리 (메모리 스냅샷)
+ *
+ * <p>게시판은 관리자만 변경하는 소수의 데이터이므로 전체를 불변 Map 스냅샷으로 보관하고,
+ * 게시글 작성/목록 조회의 slug → 게시판 조회를 DB 왕복 없이 처리합니다.</p>
+ * <p>스냅샷은 통째로 교체(AtomicReference)되므로 읽는 쪽은 락 없이 항상 일관된 상태를 봅니다.</p>
+ * <p>갱신 시점: 애플리케이션 시작, 게시판 변경 커밋 이후, 다른 인스턴스의 변경 알림(Redis Pub/Sub), 주기적 재로딩</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardRegistry implements MessageListener {
+
+    private static final String RELOAD_CHANNEL = "board:reload";
+
+    private final BoardRepository boardRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel()));
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * slug로 게시판 조회
+     */
+    public Optional<BoardMeta> findBySlug(String slug) {
+        return Optional.ofNullable(current().bySlug().get(slug));
+    }
+
+    /**
+     * slug로 게시판 조회 (없으면 예외)
+     */
+    public BoardMeta getBySlug(String slug) {
+        return findBySlug(slug)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.BOARD_NOT_FOUND));
+    }
+
+    /**
+     * ID로 게시판 조회 (없으면 예외)
+     */
+    public BoardMeta getById(Long boardId) {
+        BoardMeta board = current().byId().get(boardId);
+        if (board == null) {
+            throw new NotFoundException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        return board;
+    }
+
+    /**
+     * 전체 게시판 조회
+     */
+    public Collection<BoardMeta> getAll() {
+        return current().byId().values();
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 전체 게시판 재로딩 (스냅샷 교체)
+     */
+    public void reload() {
+        List<BoardMeta> boards = boardRepository.findAll().stream()
+                .map(BoardMeta::from)
+                .toList();
+
+        snapshot.set(new Snapshot(
+                boards.stream().collect(Collectors.toUnmodifiableMap(BoardMeta::getSlug, Function.identity())),
+                boards.stream().collect(Collectors.toUnmodifiableMap(BoardMeta::getId, Function.identity()))
+        ));
+
+        log.info("[BOARD_REGISTRY] 게시판 스냅샷 갱신: boards={}", boards.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 게시판 변경 커밋 이후 재로딩 + 다른 인스턴스에 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        reload();
+        try {
+            redisTemplate.convertAndSend(channel(), String.valueOf(event.getBoardId()));
+        } catch (DataAccessException e) {
+            log.warn("[BOARD_REGISTRY] 변경 알림 실패: boardId={}, message={}", event.getBoardId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 게시판 변경 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    /**
+     * 알림 유실 대비 주기적 재로딩
+     */
+    @Scheduled(fixedDelayString = "${app.board.registry-refresh-delay-ms:300000}",
+            initialDelayString = "${app.board.registry-refresh-delay-ms:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("[BOARD_REGISTRY] 주기적 재로딩 실패 (기존 스냅샷 유지): message={}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            // ApplicationReadyEvent 이전 호출 대비
+            reload();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    private String channel() {
+        return redisKeyProperties.getCache() + RELOAD_CHANNEL;
+    }
+
+    private record Snapshot(Map<String, BoardMeta> bySlug, Map<Long, BoardMeta> byId) {
+    }
+}
@@ -9,11 +9,13 @@ import com.community.domain.board.dto.request.BoardUpdateRequest;
 import com.community.domain.board.dto.response.BoardListResponse;
 import com.community.domain.board.dto.response.BoardResponse;
 import com.community.domain.board.entity.Board;
+import com.community.domain.board.event.BoardChangedEvent;
 import com.community.domain.board.repository.BoardRepository;
 import com.community.domain.user.entity.Role;
 import com.community.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BoardService {
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========== 조회 ==========
 
@@ -95,6 +98,8 @@ public class BoardService {
 
         boardRepository.save(board);
 
+        eventPublisher.publishEvent(new BoardChangedEvent(board.getId()));
+
         log.info("[BOARD_CREATE] boardId={}, slug={}, type={}, admin={}",
                 board.getId(), board.getSlug(), board.getBoardType(), user.getId());
 
@@ -121,6 +126,8 @@ public class BoardService {
                 request.isCommentRequiresLogin()
         );
 
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
+
         log.info("[BOARD_UPDATE] boardId={}, admin={}", boardId, user.getId());
     }
 
@@ -139,6 +146,8 @@ public class BoardService {
             board.activate();
         }
 
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
+
         log.info("[BOARD_TOGGLE] boardId={}, isActive={}, admin={}",
                 boardId, board.isActive(), user.getId());
     }
@@ -163,6 +172,8 @@ public class BoardService {
 
         boardRepository.delete(board);
 
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
+
         log.info("[BOARD_DELETE] boardId={}, slug={}, admin={}",
                 boardId, board.getSlug(), user.getId());
     }
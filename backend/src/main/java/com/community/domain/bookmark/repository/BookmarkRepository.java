@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,15 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      */
     boolean existsByUserIdAndPostId(Long userId, Long postId);
 
+    /**
+     *  게시글 목록 중 사용자가 북마크한 게시글 ID 일괄 조회
+     * @param userId 사용자
+     * @param postIds 게시글 ID 목록
+     * @return 북마크한 게시글 ID 목록
+     */
+    @Query("select b.post.id from Bookmark b where b.user.id = :userId and b.post.id in :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
     /**
      *  사용자 북마크 목록 조회
      * @param userId 사용자
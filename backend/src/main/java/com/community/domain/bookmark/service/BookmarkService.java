@@ -18,8 +18,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -106,4 +109,17 @@ public class BookmarkService {
     public boolean isBookmarked(User user, Long postId) {
         return bookmarkRepository.existsByUserIdAndPostId(user.getId(), postId);
     }
+
+    /**
+     * 게시글 목록 중 북마크한 게시글 ID 일괄 조회 (목록 1회 쿼리)
+     * @param userId 사용자 ID (비로그인이면 null)
+     * @param postIds 게시글 ID 목록
+     * @return 북마크한 게시글 ID 집합
+     */
+    public Set<Long> findBookmarkedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(bookmarkRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds));
+    }
 }
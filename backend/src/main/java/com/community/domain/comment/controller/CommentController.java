@@ -1,6 +1,7 @@
 package com.community.domain.comment.controller;
 
 import com.community.core.common.dto.ApiResponse;
+import com.community.core.common.dto.CursorResponse;
 import com.community.core.security.annotation.CurrentUser;
 import com.community.domain.comment.dto.request.CommentCreateRequest;
 import com.community.domain.comment.dto.request.CommentUpdateRequest;
@@ -55,6 +56,46 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
+    /**
+     *  게시글 댓글 목록 조회 (커서 기반)
+     * @param postId 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 댓글 페이지 크기
+     * @param replySize 댓글별 대댓글 미리보기 수
+     * @param user 사용자
+     * @return 댓글 목록 (커서)
+     */
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponse>>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize,
+            @CurrentUser(required = false) User user){
+
+        CursorResponse<CommentResponse> comments = commentService.getCommentsByCursor(postId, cursor, size, replySize, user);
+        return ResponseEntity.ok(ApiResponse.success(comments));
+    }
+
+    /**
+     *  대댓글 목록 조회 (커서 기반, 대댓글 더보기)
+     * @param commentId 부모 댓글 ID
+     * @param cursor 댓글의 nextReplyCursor 또는 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @param user 사용자
+     * @return 대댓글 목록 (커서)
+     */
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponse>>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) User user){
+
+        CursorResponse<CommentResponse> replies = commentService.getRepliesByCursor(commentId, cursor, size, user);
+        return ResponseEntity.ok(ApiResponse.success(replies));
+    }
+
     /**
      * 댓글 수정
      * @param commentId 댓글 ID
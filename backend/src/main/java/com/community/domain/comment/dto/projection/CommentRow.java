@@ -0,0 +1,72 @@
+package com.community.domain.comment.dto.projection;
+
+import com.community.domain.user.entity.User;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 행 프로젝션 (JPQL 생성자 표현식)
+ *
+ * <p>댓글 응답에 필요한 컬럼과 작성자 id/닉네임/프로필 이미지만 조회하며,
+ * Comment/User 엔티티를 영속성 컨텍스트에 올리지 않습니다.</p>
+ */
+@Getter
+public class CommentRow {
+
+    private final Long id;
+    private final Long parentId;
+    private final String content;
+    private final boolean isAnonymous;
+    private final int likeCount;
+    private final int dislikeCount;
+    private final boolean isSelected;
+    private final int depth;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime deletedAt;
+
+    // 작성자
+    private final Long userId;
+    private final String nickname;
+    private final String profileImage;
+
+    public CommentRow(
+            Long id,
+            Long parentId,
+            String content,
+            boolean isAnonymous,
+            int likeCount,
+            int dislikeCount,
+            boolean isSelected,
+            int depth,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime deletedAt,
+            Long userId,
+            String nickname,
+            String profileImage) {
+        this.id = id;
+        this.parentId = parentId;
+        this.content = content;
+        this.isAnonymous = isAnonymous;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.isSelected = isSelected;
+        this.depth = depth;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    public boolean isOwnedBy(User user) {
+        return user != null && userId.equals(user.getId());
+    }
+}
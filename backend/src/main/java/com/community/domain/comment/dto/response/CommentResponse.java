@@ -1,6 +1,7 @@
 package com.community.domain.comment.dto.response;
 
-import com.community.domain.comment.entity.Comment;
+import com.community.domain.comment.dto.projection.CommentRow;
+import com.community.domain.reaction.entity.ReactionType;
 import com.community.domain.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +20,7 @@ public class CommentResponse {
     private boolean isAnonymous;
     private int likeCount;
     private int dislikeCount;
-    private String myReaction;  // "LIKE", "DISLIKE", null (TODO: Reaction 도메인 연동)
+    private String myReaction;  // "LIKE", "DISLIKE", null
     private boolean isAuthor;
     private boolean isSelected;
     private int depth;
@@ -28,6 +29,8 @@ public class CommentResponse {
     @Builder.Default
     private List<CommentResponse> replies = new ArrayList<>();
 
+    private String nextReplyCursor;  // 더 불러올 대댓글이 있으면 커서, 없으면 null
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     /**
@@ -40,16 +43,21 @@ public class CommentResponse {
         private String nickname;
         private String profileImage;
 
-        public static Author from(User user) {
+        public static Author from(CommentRow comment) {
             return Author.builder()
-                    .id(user.getId())
-                    .nickname(user.getNickname())
-                    .profileImage(user.getProfileImage())
+                    .id(comment.getUserId())
+                    .nickname(comment.getNickname())
+                    .profileImage(comment.getProfileImage())
                     .build();
         }
     }
 
-    public static CommentResponse from(Comment comment, User currentUser) {
+    /**
+     * 댓글 행 프로젝션 → DTO 변환
+     *
+     * @param myReaction 현재 사용자의 반응 (목록 단위 일괄 조회 결과, 없으면 null)
+     */
+    public static CommentResponse from(CommentRow comment, User currentUser, ReactionType myReaction) {
         if (comment.isDeleted()) {
             return CommentResponse.builder()
                     .id(comment.getId())
@@ -61,7 +69,7 @@ public class CommentResponse {
                     .isAuthor(false)
                     .isSelected(false)
                     .depth(comment.getDepth())
-                    .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                    .parentId(comment.getParentId())
                     .createdAt(comment.getCreatedAt())
                     .updatedAt(comment.getUpdatedAt())
                     .build();
@@ -75,12 +83,12 @@ public class CommentResponse {
             boolean isAdmin = currentUser.getRole().name().equals("ADMIN");
             // 익명이 아니거나, 본인이거나, 관리자면 작성자 정보 노출
             if(!comment.isAnonymous() || isAdmin || isAuthor) {
-                author = Author.from(comment.getUser());
+                author = Author.from(comment);
             }
         }else {
             // 로그인하지 않은 경우 익명이 아닌 댓글만 작성자 정보 노출
             if (!comment.isAnonymous()) {
-                author = Author.from(comment.getUser());
+                author = Author.from(comment);
             }
         }
         return CommentResponse.builder()
@@ -90,16 +98,31 @@ public class CommentResponse {
                 .isAnonymous(comment.isAnonymous())
                 .likeCount(comment.getLikeCount())
                 .dislikeCount(comment.getDislikeCount())
-                .myReaction(null)  // TODO: Reaction 도메인 연동
+                .myReaction(myReaction != null ? myReaction.name() : null)
                 .isAuthor(isAuthor)
                 .isSelected(comment.isSelected())
                 .depth(comment.getDepth())
-                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .parentId(comment.getParentId())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * 반응 수 갱신 (Redis 카운터의 미반영 증감분 반영용)
+     */
+    public void applyReactionCounts(int likeCount, int dislikeCount) {
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+    }
+
+    /**
+     * 남은 대댓글 커서 설정 (대댓글 미리보기 이후 "더보기"용)
+     */
+    public void markMoreReplies(String nextReplyCursor) {
+        this.nextReplyCursor = nextReplyCursor;
+    }
+
     /**
      * 대댓글 추가 (트리 구조 구성용)
      *
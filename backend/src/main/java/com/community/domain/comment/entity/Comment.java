@@ -13,7 +13,12 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글 댓글 keyset 페이지 조회 (작성순)
+        @Index(name = "idx_comments_post_depth_created", columnList = "post_id, depth, created_at, id"),
+        // 댓글별 대댓글 keyset 페이지 조회 (작성순)
+        @Index(name = "idx_comments_parent_created", columnList = "parent_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @SQLRestriction("deleted_at IS NULL")
@@ -1,18 +1,34 @@
 package com.community.domain.comment.repository;
 
+import com.community.domain.comment.dto.projection.CommentRow;
 import com.community.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 댓글 목록 행 프로젝션 (작성자는 id/닉네임/프로필 이미지만)
+     *
+     * <p>부모는 조인하지 않고 FK(parent_id)만 읽습니다. 부모 댓글에도 삭제 필터(@SQLRestriction)가 걸려 있어,
+     * 조인하면 부모가 삭제된 대댓글의 parentId가 null로 나옵니다.</p>
+     */
+    String COMMENT_ROW = "select new com.community.domain.comment.dto.projection.CommentRow(" +
+            "c.id, c.parent.id, c.content, c.isAnonymous, c.likeCount, c.dislikeCount, c.isSelected, c.depth, " +
+            "c.createdAt, c.updatedAt, c.deletedAt, u.id, u.nickname, u.profileImage) " +
+            "from Comment c join c.user u ";
+
     /**
      * 댓글 상세 조회
      */
@@ -37,6 +53,77 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("select c from Comment c join fetch c.user where c.post.id = :postId and c.depth = 1 order by c.createdAt asc")
     List<Comment> findRepliesByPostId(@Param("postId") Long postId);
 
+    /**
+     * 게시글 전체 댓글 행 조회 (댓글 → 대댓글 순, 각각 작성순)
+     *
+     * <p>댓글이 대댓글보다 먼저 오므로 한 번의 순회로 트리를 만들 수 있습니다.</p>
+     */
+    @Query(COMMENT_ROW + "where c.post.id = :postId order by c.depth asc, c.createdAt asc, c.id asc")
+    List<CommentRow> findRowsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 댓글 첫 페이지 조회 (Depth 0, 작성순, keyset)
+     */
+    @Query(COMMENT_ROW + "where c.post.id = :postId and c.depth = 0 order by c.createdAt asc, c.id asc")
+    List<CommentRow> findRootRows(@Param("postId") Long postId, Limit limit);
+
+    /**
+     * 게시글 댓글 다음 페이지 조회 (커서 이후)
+     *
+     * <p>커서 조건은 row value 비교로 작성해 (post_id, depth, created_at, id) 인덱스를 커서 위치부터 범위 탐색합니다.
+     * OR 로 풀어 쓰면 앞쪽 행을 모두 읽고 걸러내므로 페이지가 깊어질수록 느려집니다.</p>
+     */
+    @Query(COMMENT_ROW + "where c.post.id = :postId and c.depth = 0 " +
+            "and (c.createdAt, c.id) > (:createdAt, :id) " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRow> findRootRowsAfter(@Param("postId") Long postId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Limit limit);
+
+    /**
+     * 댓글별 앞쪽 대댓글 ID 조회 (부모마다 최대 limit개)
+     *
+     * <p>부모 댓글마다 (parent_id, created_at, id) 인덱스를 LATERAL로 limit 만큼만 읽으므로
+     * 대댓글이 많은 댓글이 있어도 조회량이 일정합니다.</p>
+     */
+    @Query(value = """
+            SELECT r.id
+            FROM comments p
+            CROSS JOIN LATERAL (
+                SELECT c.id
+                FROM comments c
+                WHERE c.parent_id = p.id AND c.deleted_at IS NULL
+                ORDER BY c.created_at, c.id
+                LIMIT :limit
+            ) r
+            WHERE p.id IN (:parentIds)
+            """, nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    /**
+     * ID 목록으로 댓글 행 조회 (작성순)
+     */
+    @Query(COMMENT_ROW + "where c.id in :ids order by c.createdAt asc, c.id asc")
+    List<CommentRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 대댓글 첫 페이지 조회 (작성순, keyset)
+     */
+    @Query(COMMENT_ROW + "where c.parent.id = :parentId order by c.createdAt asc, c.id asc")
+    List<CommentRow> findReplyRows(@Param("parentId") Long parentId, Limit limit);
+
+    /**
+     * 대댓글 다음 페이지 조회 (커서 이후, (parent_id, created_at, id) 인덱스 범위 탐색)
+     */
+    @Query(COMMENT_ROW + "where c.parent.id = :parentId " +
+            "and (c.createdAt, c.id) > (:createdAt, :id) " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRow> findReplyRowsAfter(@Param("parentId") Long parentId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
     /**
      * 게시물 전체 댓글 수
      */
@@ -61,4 +148,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * <p>게시글 삭제 전 확인 </p>
      */
     boolean existsByPostId(Long postId);
+
+    /**
+     * 좋아요 수 증감 (벌크 연산)
+     *
+     * <p>Redis 반응 카운터에 누적된 증감분을 반영합니다. 엔티티를 거치지 않으므로 @Version 충돌이 없습니다.</p>
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.likeCount = greatest(c.likeCount + :delta, 0) WHERE c.id IN :commentIds")
+    void adjustLikeCount(@Param("commentIds") Collection<Long> commentIds, @Param("delta") int delta);
+
+    /**
+     * 싫어요 수 증감 (벌크 연산)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.dislikeCount = greatest(c.dislikeCount + :delta, 0) WHERE c.id IN :commentIds")
+    void adjustDislikeCount(@Param("commentIds") Collection<Long> commentIds, @Param("delta") int delta);
 }
@@ -1,10 +1,13 @@
 package com.community.domain.comment.service;
 
+import com.community.core.common.dto.CursorResponse;
+import com.community.core.common.dto.KeysetCursor;
 import com.community.core.exception.ErrorCode;
 import com.community.core.exception.custom.BadRequestException;
 import com.community.core.exception.custom.ForbiddenException;
 import com.community.core.exception.custom.NotFoundException;
 import com.community.domain.board.entity.BoardType;
+import com.community.domain.comment.dto.projection.CommentRow;
 import com.community.domain.comment.dto.request.CommentCreateRequest;
 import com.community.domain.comment.dto.request.CommentUpdateRequest;
 import com.community.domain.comment.dto.response.CommentResponse;
@@ -12,12 +15,21 @@ import com.community.domain.comment.entity.Comment;
 import com.community.domain.comment.repository.CommentRepository;
 import com.community.domain.post.entity.Post;
 import com.community.domain.post.repository.PostRepository;
+import com.community.domain.post.service.PostDetailCache;
+import com.community.domain.post.service.PostRankingService;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.service.ReactionCounterService;
+import com.community.domain.reaction.service.ReactionQueryService;
 import com.community.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,8 +40,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostRankingService postRankingService;
+    private final ReactionQueryService reactionQueryService;
+    private final ReactionCounterService reactionCounterService;
 
     /**
      * 댓글 생성
@@ -64,9 +82,12 @@ public class CommentService {
                 : Comment.createReply(post, user, parent, request.getContent(), request.isAnonymous());
 
         commentRepository.save(comment);
-        post.incrementCommentCount();
+        // 게시글 row 전체가 아닌 comment_count만 원자적으로 증가 (영속성 컨텍스트 초기화 → 마지막에 실행)
+        postRepository.adjustCommentCount(postId, 1);
+        postDetailCache.bumpAfterCommit(postId);
+        postRankingService.recordAfterCommit(PostRankingService.Signal.COMMENT, postId, 1);
         log.info("[COMMENT_CREATE] postId={}, commentId={}, userId={}, depth={}",
-                post.getId(), comment.getId(), user.getId(), comment.getDepth());
+                postId, comment.getId(), user.getId(), comment.getDepth());
 
         return comment.getId();
     }
@@ -79,25 +100,150 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(Long postId, User user){
-        List<Comment> rootComments = commentRepository.findCommentsByPostId(postId);
-        List<Comment> allReplies = commentRepository.findRepliesByPostId(postId);
+        // 필요한 컬럼만 프로젝션으로 조회 (댓글 → 대댓글 순)
+        List<CommentRow> rows = commentRepository.findRowsByPostId(postId);
+        List<Long> commentIds = rows.stream().map(CommentRow::getId).toList();
+        Map<Long, ReactionType> myReactions = findMyReactions(user, commentIds);
+        Map<Long, ReactionCounterService.PendingCounts> pendingCounts =
+                reactionCounterService.getPending(TargetType.COMMENT, commentIds);
+
+        // 한 번의 순회로 트리 구성 (부모 댓글이 항상 먼저 나옴, 부모가 삭제된 대댓글은 제외)
+        Map<Long, CommentResponse> rootsById = new LinkedHashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            CommentResponse response = toResponse(row, user, myReactions, pendingCounts);
+            if (row.getDepth() == 0) {
+                rootsById.put(row.getId(), response);
+                continue;
+            }
+            CommentResponse parent = rootsById.get(row.getParentId());
+            if (parent != null) {
+                parent.addReply(response);
+            }
+        }
+        return List.copyOf(rootsById.values());
+    }
+
+    /**
+     * 게시글 댓글 목록 조회 (커서 기반)
+     *
+     * <p>댓글은 (created_at, id) keyset으로 size개씩, 대댓글은 이 페이지 댓글마다 앞쪽 replySize개만 조회합니다.</p>
+     * <p>남은 대댓글은 댓글별 nextReplyCursor로 {@link #getRepliesByCursor}에서 이어서 조회합니다.</p>
+     * @param postId 게시물 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 댓글 페이지 크기
+     * @param replySize 댓글별 대댓글 미리보기 수
+     * @param user 사용자
+     * @return 댓글 목록 (커서)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(Long postId, String cursor, int size, int replySize, User user) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        replySize = Math.min(Math.max(replySize, 0), MAX_PAGE_SIZE);
+
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        List<CommentRow> rootRows = keyset == null
+                ? commentRepository.findRootRows(postId, Limit.of(size + 1))
+                : commentRepository.findRootRowsAfter(postId, keyset.getCreatedAt(), keyset.getId(), Limit.of(size + 1));
+
+        boolean hasNext = rootRows.size() > size;
+        List<CommentRow> pageRoots = hasNext ? rootRows.subList(0, size) : rootRows;
+
+        // 이 페이지 댓글들의 대댓글만 (댓글마다 replySize + 1개, 다음 대댓글 존재 여부 확인용)
+        List<CommentRow> replies = List.of();
+        if (replySize > 0 && !pageRoots.isEmpty()) {
+            List<Long> replyIds = commentRepository.findFirstReplyIds(
+                    pageRoots.stream().map(CommentRow::getId).toList(), replySize + 1);
+            replies = replyIds.isEmpty() ? List.of() : commentRepository.findRowsByIdIn(replyIds);
+        }
+        Map<Long, List<CommentRow>> repliesByParentId = replies.stream()
+                .collect(Collectors.groupingBy(CommentRow::getParentId));
 
-        // parentId -> 대댓글 목록 매핑
-        Map<Long, List<Comment>> repliesByParentId = allReplies.stream()
-                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
+        List<CommentRow> rows = new ArrayList<>(pageRoots.size() + replies.size());
+        rows.addAll(pageRoots);
+        rows.addAll(replies);
+        Map<Long, CommentResponse> responses = toResponses(rows, user);
 
-        return rootComments.stream()
+        int previewSize = replySize;
+        List<CommentResponse> content = pageRoots.stream()
                 .map(comment -> {
-                    CommentResponse response = CommentResponse.from(comment, user);
-
-                    List<Comment> replies = repliesByParentId.getOrDefault(comment.getId(), List.of());
-                    replies.forEach(reply -> {
-                        CommentResponse replyResponse = CommentResponse.from(reply, user);
-                        response.addReply(replyResponse);
-                    });
+                    CommentResponse response = responses.get(comment.getId());
+                    List<CommentRow> commentReplies = repliesByParentId.getOrDefault(comment.getId(), List.of());
+                    List<CommentRow> preview = commentReplies.size() > previewSize
+                            ? commentReplies.subList(0, previewSize) : commentReplies;
+                    preview.forEach(reply -> response.addReply(responses.get(reply.getId())));
+
+                    if (commentReplies.size() > previewSize) {
+                        response.markMoreReplies(nextCursor(preview.get(preview.size() - 1)));
+                    }
                     return response;
                 })
                 .toList();
+
+        String nextCursor = hasNext ? nextCursor(pageRoots.get(pageRoots.size() - 1)) : null;
+        return CursorResponse.of(content, size, nextCursor, null);
+    }
+
+    /**
+     * 대댓글 목록 조회 (커서 기반)
+     * @param commentId 부모 댓글 ID
+     * @param cursor 이전 응답의 nextCursor 또는 댓글의 nextReplyCursor (처음부터면 null)
+     * @param size 페이지 크기
+     * @param user 사용자
+     * @return 대댓글 목록 (커서)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getRepliesByCursor(Long commentId, String cursor, int size, User user) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        List<CommentRow> replies = keyset == null
+                ? commentRepository.findReplyRows(commentId, Limit.of(size + 1))
+                : commentRepository.findReplyRowsAfter(commentId, keyset.getCreatedAt(), keyset.getId(), Limit.of(size + 1));
+
+        boolean hasNext = replies.size() > size;
+        List<CommentRow> pageReplies = hasNext ? replies.subList(0, size) : replies;
+
+        List<CommentResponse> content = List.copyOf(toResponses(pageReplies, user).values());
+        String nextCursor = hasNext ? nextCursor(pageReplies.get(pageReplies.size() - 1)) : null;
+        return CursorResponse.of(content, size, nextCursor, null);
+    }
+
+    /**
+     * 댓글 행 목록 → 응답 (내 반응 + 미반영 반응 수 일괄 조회, 순서 유지)
+     */
+    private Map<Long, CommentResponse> toResponses(List<CommentRow> rows, User user) {
+        List<Long> commentIds = rows.stream().map(CommentRow::getId).toList();
+        Map<Long, ReactionType> myReactions = findMyReactions(user, commentIds);
+        Map<Long, ReactionCounterService.PendingCounts> pendingCounts =
+                reactionCounterService.getPending(TargetType.COMMENT, commentIds);
+
+        Map<Long, CommentResponse> responses = new LinkedHashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            responses.put(row.getId(), toResponse(row, user, myReactions, pendingCounts));
+        }
+        return responses;
+    }
+
+    private Map<Long, ReactionType> findMyReactions(User user, List<Long> commentIds) {
+        return reactionQueryService.findMyReactions(user != null ? user.getId() : null, TargetType.COMMENT, commentIds);
+    }
+
+    /**
+     * 댓글 행 → 응답 (미반영 반응 수 증감분 반영)
+     */
+    private CommentResponse toResponse(CommentRow row, User user, Map<Long, ReactionType> myReactions,
+                                       Map<Long, ReactionCounterService.PendingCounts> pendingCounts) {
+        CommentResponse response = CommentResponse.from(row, user, myReactions.get(row.getId()));
+
+        ReactionCounterService.PendingCounts pending = pendingCounts.get(row.getId());
+        if (pending != null && !row.isDeleted()) {
+            response.applyReactionCounts(pending.likeCount(row.getLikeCount()), pending.dislikeCount(row.getDislikeCount()));
+        }
+        return response;
+    }
+
+    private String nextCursor(CommentRow row) {
+        return KeysetCursor.of(row.getCreatedAt(), row.getId()).encode();
     }
 
     /**
@@ -139,8 +285,11 @@ public class CommentService {
         }
 
         comment.delete();
-        Post post = comment.getPost();
-        post.decrementCommentCount();
+        Long postId = comment.getPost().getId();
+        // 댓글 삭제 flush 후 comment_count만 원자적으로 감소
+        postRepository.adjustCommentCount(postId, -1);
+        postDetailCache.bumpAfterCommit(postId);
+        postRankingService.recordAfterCommit(PostRankingService.Signal.COMMENT, postId, -1);
 
         log.info("[COMMENT_DELETE] commentId={}, userId={}", commentId, user.getId());
     }
@@ -179,6 +328,7 @@ public class CommentService {
 
         comment.select();
         post.selectComment(commentId);
+        postDetailCache.bumpAfterCommit(post.getId());
 
 
         log.info("[COMMENT_SELECT] commentId={}, postId={}, userId={}",
@@ -211,6 +361,7 @@ public class CommentService {
 
         comment.unselect();
         post.unselectComment();
+        postDetailCache.bumpAfterCommit(post.getId());
 
         log.info("[COMMENT_UNSELECT] commentId={}, postId={}, userId={}",
                 commentId, post.getId(), user.getId());
@@ -1,13 +1,18 @@
 package com.community.domain.post.controller;
 
 import com.community.core.common.dto.ApiResponse;
+import com.community.core.common.dto.CursorResponse;
 import com.community.core.common.dto.PageResponse;
 import com.community.core.security.annotation.CurrentUser;
 import com.community.domain.post.dto.condition.PostSearchCondition;
+import com.community.domain.post.dto.condition.SearchMode;
+import com.community.domain.post.dto.condition.TagMatchType;
 import com.community.domain.post.dto.request.PostCreateRequest;
 import com.community.domain.post.dto.request.PostUpdateRequest;
+import com.community.domain.post.dto.response.HomeFeedResponse;
 import com.community.domain.post.dto.response.PostDetailResponse;
 import com.community.domain.post.dto.response.PostListResponse;
+import com.community.domain.post.service.HomeFeedService;
 import com.community.domain.post.service.PostQueryService;
 import com.community.domain.post.service.PostService;
 import com.community.domain.user.entity.User;
@@ -28,6 +33,7 @@ import java.util.List;
 public class PostController {
     private final PostService postService;
     private final PostQueryService postQueryService;
+    private final HomeFeedService homeFeedService;
 
     /**
      * 게시글 작성
@@ -83,11 +89,73 @@ public class PostController {
      * 게시판별 게시글 목록 조회
      * @param slug 게시판 슬러그
      * @param pageable 페이지 정보(page, size, sort)
+     * @param userId 사용자 ID (비로그인 가능, 내 반응/북마크 표시용)
      * @return 게시글 목록(페이징)
      */
     @GetMapping("/boards/{slug}/posts")
-    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPosts(@PathVariable String slug, @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable){
-        PageResponse<PostListResponse> response = postQueryService.getPostList(slug, pageable);
+    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPosts(@PathVariable String slug, @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable, @CurrentUser(required = false) Long userId){
+        PageResponse<PostListResponse> response = postQueryService.getPostList(slug, pageable, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시판별 인기 게시글 조회
+     * @param slug 게시판 슬러그
+     * @param size 조회 수 (최대 100)
+     * @param userId 사용자 ID (비로그인 가능)
+     * @return 인기 게시글 목록
+     */
+    @GetMapping("/boards/{slug}/posts/popular")
+    public ResponseEntity<ApiResponse<List<PostListResponse>>> getPopularPostsByBoard(
+            @PathVariable String slug,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId) {
+        List<PostListResponse> response = postQueryService.getPopularPosts(slug, size, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 홈 피드 조회 (활성 게시판별 최신 게시글)
+     * @param userId 사용자 ID (비로그인 가능)
+     * @return 게시판별 최신 게시글
+     */
+    @GetMapping("/posts/home-feed")
+    public ResponseEntity<ApiResponse<HomeFeedResponse>> getHomeFeed(@CurrentUser(required = false) Long userId) {
+        HomeFeedResponse response = homeFeedService.getHomeFeed(userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 전체 인기 게시글 조회
+     * @param size 조회 수 (최대 100)
+     * @param userId 사용자 ID (비로그인 가능)
+     * @return 인기 게시글 목록
+     */
+    @GetMapping("/posts/popular")
+    public ResponseEntity<ApiResponse<List<PostListResponse>>> getPopularPosts(
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId) {
+        List<PostListResponse> response = postQueryService.getPopularPosts(null, size, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시판별 게시글 목록 조회 (커서 기반)
+     * @param slug 게시판 슬러그
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @param withCount 전체 개수 포함 여부
+     * @param userId 사용자 ID (비로그인 가능)
+     * @return 게시글 목록(커서)
+     */
+    @GetMapping("/boards/{slug}/posts/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostListResponse>>> getPostsByCursor(
+            @PathVariable String slug,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withCount,
+            @CurrentUser(required = false) Long userId) {
+        CursorResponse<PostListResponse> response = postQueryService.getPostListByCursor(slug, cursor, size, withCount, userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -96,7 +164,11 @@ public class PostController {
      * @param keyword 검색키워드 (선택)
      * @param boardId 게시판 ID (선택)
      * @param tag 태그 (선택)
+     * @param tags 태그 목록 (선택, 다중 태그)
+     * @param match 다중 태그 검색 방식 (ANY: OR, ALL: AND)
+     * @param mode 검색 방식 (LIKE: 최신순, FULLTEXT: 관련도순 + 하이라이트)
      * @param pageable 페이징
+     * @param userId 사용자 ID (비로그인 가능)
      * @return 검색결과
      */
     @GetMapping("/posts/search")
@@ -104,14 +176,53 @@ public class PostController {
           @RequestParam(required = false) String keyword,
           @RequestParam(required = false) Long boardId,
           @RequestParam(required = false) String tag,
-          @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+          @RequestParam(required = false) List<String> tags,
+          @RequestParam(defaultValue = "ANY") TagMatchType match,
+          @RequestParam(defaultValue = "LIKE") SearchMode mode,
+          @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+          @CurrentUser(required = false) Long userId) {
 
         PostSearchCondition condition = PostSearchCondition.builder()
                 .keyword(keyword)
                 .boardId(boardId)
                 .tag(tag)
+                .tags(tags)
+                .tagMatch(match)
+                .searchMode(mode)
+                .build();
+        PageResponse<PostListResponse> response = postQueryService.searchPost(condition, pageable, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시글 검색 (커서 기반, 태그 페이지용)
+     * @param keyword 검색키워드 (선택)
+     * @param boardId 게시판 ID (선택)
+     * @param tags 태그 목록 (선택)
+     * @param match 다중 태그 검색 방식 (ANY: OR, ALL: AND)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @param userId 사용자 ID (비로그인 가능)
+     * @return 검색결과(커서)
+     */
+    @GetMapping("/posts/search/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostListResponse>>> searchPostByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long boardId,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "ANY") TagMatchType match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId) {
+
+        PostSearchCondition condition = PostSearchCondition.builder()
+                .keyword(keyword)
+                .boardId(boardId)
+                .tags(tags)
+                .tagMatch(match)
                 .build();
-        PageResponse<PostListResponse> response = postQueryService.searchPost(condition, pageable);
+        CursorResponse<PostListResponse> response = postQueryService.searchPostByCursor(condition, cursor, size, userId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -120,11 +231,12 @@ public class PostController {
      * 사용자 작설 게시글 목록 조회
      * @param userId 사용자 ID
      * @param pageable 페이징
+     * @param viewerId 조회 사용자 ID (비로그인 가능)
      * @return 게시글 목록
      */
     @GetMapping("/users/{userId}/posts")
-    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPostsByUser(@PathVariable Long userId, @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable){
-        PageResponse<PostListResponse> response = postQueryService.getPostsByUser(userId, pageable);
+    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPostsByUser(@PathVariable Long userId, @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable, @CurrentUser(required = false) Long viewerId){
+        PageResponse<PostListResponse> response = postQueryService.getPostsByUser(userId, pageable, viewerId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -148,7 +260,7 @@ public class PostController {
      */
     @GetMapping("/posts/me")
     public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getMyPosts(@CurrentUser User user,@PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable){
-        PageResponse<PostListResponse> response = postQueryService.getPostsByUser(user.getId(), Pageable.unpaged());
+        PageResponse<PostListResponse> response = postQueryService.getPostsByUser(user.getId(), Pageable.unpaged(), user.getId());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -4,6 +4,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * 게시글 검색 조건 DTO
  */
@@ -27,8 +30,46 @@ public class PostSearchCondition {
      */
     private String tag;
 
+    /**
+     * 태그 목록 (다중 태그 검색)
+     */
+    private List<String> tags;
+
+    /**
+     * 다중 태그 검색 방식 (기본: OR)
+     */
+    @Builder.Default
+    private TagMatchType tagMatch = TagMatchType.ANY;
+
     /**
      * 작성자 ID
      */
     private Long userId;
-}
\ No newline at end of file
+
+    /**
+     * 검색 방식 (기본: 부분 일치)
+     */
+    @Builder.Default
+    private SearchMode searchMode = SearchMode.LIKE;
+
+    /**
+     * 전문 검색 사용 여부 (키워드가 있을 때만)
+     */
+    public boolean isFullTextSearch() {
+        return searchMode == SearchMode.FULLTEXT && keyword != null && !keyword.isBlank();
+    }
+
+    /**
+     * 검색할 태그명 (tag + tags, 공백 제거 및 중복 제거)
+     */
+    public List<String> getTagNames() {
+        Stream<String> single = tag != null ? Stream.of(tag) : Stream.empty();
+        Stream<String> multiple = tags != null ? tags.stream() : Stream.empty();
+
+        return Stream.concat(single, multiple)
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package com.community.domain.post.dto.condition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 검색 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchMode {
+    /**
+     * 제목/내용 부분 일치 (LIKE, 최신순)
+     */
+    LIKE("부분 일치"),
+
+    /**
+     * 트라이그램 인덱스 기반 전문 검색 (관련도순 + 하이라이트)
+     */
+    FULLTEXT("전문 검색");
+
+    private final String description;
+}
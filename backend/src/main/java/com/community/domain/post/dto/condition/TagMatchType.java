@@ -0,0 +1,23 @@
+package com.community.domain.post.dto.condition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다중 태그 검색 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TagMatchType {
+    /**
+     * 태그 중 하나라도 포함 (OR)
+     */
+    ANY("하나라도 포함"),
+
+    /**
+     * 모든 태그 포함 (AND)
+     */
+    ALL("모두 포함");
+
+    private final String description;
+}
@@ -0,0 +1,25 @@
+package com.community.domain.post.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 랭킹 메타 프로젝션
+ *
+ * <p>인기 게시글 랭킹 적재(기동 시)에 필요한 게시판 ID, 작성 시각, DB에 반영된 카운터만 조회합니다.</p>
+ */
+public interface PostRankingMeta {
+
+    Long getId();
+
+    Long getBoardId();
+
+    LocalDateTime getCreatedAt();
+
+    int getViewCount();
+
+    int getLikeCount();
+
+    int getDislikeCount();
+
+    int getCommentCount();
+}
@@ -0,0 +1,26 @@
+package com.community.domain.post.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전문 검색 결과 (게시글 ID + 관련도 + 본문 발췌)
+ *
+ * <p>검색 쿼리는 ID와 점수만 정렬/페이징하고, 목록 컬럼은 {@link PostSummary}로 따로 조회합니다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchHit {
+
+    private final Long id;
+
+    /**
+     * 관련도 점수 (제목 일치 가중 + 제목 유사도)
+     */
+    private final double score;
+
+    /**
+     * 키워드 주변 본문 발췌 (HTML 태그 제거, 이스케이프 전)
+     */
+    private final String snippet;
+}
@@ -0,0 +1,71 @@
+package com.community.domain.post.dto.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 요약 프로젝션 (QueryDSL Projections.constructor)
+ *
+ * <p>목록 응답에 필요한 컬럼만 조회하며, Post 엔티티를 영속성 컨텍스트에 올리지 않습니다.</p>
+ * <p>content 전체와 extra_fields JSONB 대신 미리보기용 앞부분과 썸네일 URL만 조회합니다.</p>
+ */
+@Getter
+public class PostSummary {
+
+    private final Long id;
+    private final String title;
+
+    /**
+     * 내용 앞부분 (미리보기 생성용)
+     */
+    private final String contentHead;
+
+    private final boolean isAnonymous;
+    private final int viewCount;
+    private final int commentCount;
+    private final int likeCount;
+    private final boolean hasImage;
+    private final String thumbnailUrl;
+    private final boolean isNotice;
+    private final LocalDateTime createdAt;
+    private final Long boardId;
+
+    // 작성자
+    private final Long userId;
+    private final String nickname;
+    private final String profileImage;
+
+    public PostSummary(
+            Long id,
+            String title,
+            String contentHead,
+            boolean isAnonymous,
+            int viewCount,
+            int commentCount,
+            int likeCount,
+            boolean hasImage,
+            String thumbnailUrl,
+            boolean isNotice,
+            LocalDateTime createdAt,
+            Long boardId,
+            Long userId,
+            String nickname,
+            String profileImage) {
+        this.id = id;
+        this.title = title;
+        this.contentHead = contentHead;
+        this.isAnonymous = isAnonymous;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.hasImage = hasImage;
+        this.thumbnailUrl = thumbnailUrl;
+        this.isNotice = isNotice;
+        this.createdAt = createdAt;
+        this.boardId = boardId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+    }
+}
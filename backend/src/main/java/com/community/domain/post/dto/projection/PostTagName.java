@@ -0,0 +1,13 @@
+package com.community.domain.post.dto.projection;
+
+/**
+ * 게시글 ID - 태그명 프로젝션
+ *
+ * <p>게시글 목록의 태그를 한 번의 쿼리로 조회할 때 사용합니다.</p>
+ */
+public interface PostTagName {
+
+    Long getPostId();
+
+    String getTagName();
+}
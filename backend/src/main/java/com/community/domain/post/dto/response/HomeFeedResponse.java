@@ -0,0 +1,46 @@
+package com.community.domain.post.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 홈 피드 응답 DTO
+ *
+ * <p>활성 게시판별 최신 게시글 목록을 표시 순서대로 담습니다.</p>
+ */
+@Getter
+@Builder
+public class HomeFeedResponse {
+
+    /**
+     * 게시판별 최신 게시글 (표시 순서)
+     */
+    private List<BoardFeed> boards;
+
+    @Getter
+    @Builder
+    public static class BoardFeed {
+
+        /**
+         * 게시판 ID
+         */
+        private Long boardId;
+
+        /**
+         * 게시판 슬러그
+         */
+        private String slug;
+
+        /**
+         * 게시판 이름
+         */
+        private String name;
+
+        /**
+         * 최신 게시글 목록 (공지 제외)
+         */
+        private List<PostListResponse> posts;
+    }
+}
@@ -4,8 +4,10 @@ import com.community.domain.board.entity.BoardType;
 import com.community.domain.post.entity.Post;
 import com.community.domain.post.entity.PostImage;
 import com.community.domain.user.entity.User;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,9 +16,13 @@ import java.util.stream.Collectors;
 
 /**
  * 게시글 상세 응답 DTO
+ *
+ * <p>사용자 공통 부분은 {@link com.community.domain.post.service.PostDetailCache}에 JSON으로 캐싱되며,
+ * 사용자별 필드(myReaction, isBookmarked, isAuthor)는 조회 시 toBuilder로 덮어씁니다.</p>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class PostDetailResponse {
 
     /**
@@ -47,6 +53,7 @@ public class PostDetailResponse {
     /**
      * 익명 여부
      */
+    @JsonProperty("anonymous")
     private boolean isAnonymous;
 
     /**
@@ -87,16 +94,19 @@ public class PostDetailResponse {
     /**
      * 북마크 여부
      */
+    @JsonProperty("bookmarked")
     private boolean isBookmarked;
 
     /**
-     * 내가 작성자인지
+     * 내가 작성자인지 (author 객체와 이름이 겹치지 않도록 isAuthor로 노출)
      */
+    @JsonProperty("isAuthor")
     private boolean isAuthor;
 
     /**
      * 공지글 여부
      */
+    @JsonProperty("notice")
     private boolean isNotice;
 
     /**
@@ -116,13 +126,16 @@ public class PostDetailResponse {
 
     /**
      * Entity → DTO 변환
+     *
+     * @param pendingViewCount 아직 DB에 반영되지 않은 조회수 (Redis 버퍼)
      */
     public static PostDetailResponse from(
             Post post,
             List<String> tags,
             User currentUser,
             String myReaction,
-            boolean isBookmarked) {
+            boolean isBookmarked,
+            long pendingViewCount) {
 
         return PostDetailResponse.builder()
                 .id(post.getId())
@@ -131,7 +144,7 @@ public class PostDetailResponse {
                 .content(post.getContent())
                 .author(AuthorInfo.from(post.getUser(), post.isAnonymous()))
                 .isAnonymous(post.isAnonymous())
-                .viewCount(post.getViewCount())
+                .viewCount(post.getViewCount() + (int) pendingViewCount)
                 .commentCount(post.getCommentCount())
                 .likeCount(post.getLikeCount())
                 .dislikeCount(post.getDislikeCount())
@@ -152,6 +165,7 @@ public class PostDetailResponse {
      */
     @Getter
     @Builder
+    @Jacksonized
     public static class BoardInfo {
         private Long id;
         private String name;
@@ -173,6 +187,7 @@ public class PostDetailResponse {
      */
     @Getter
     @Builder
+    @Jacksonized
     public static class AuthorInfo {
         private Long id;
         private String nickname;
@@ -200,6 +215,7 @@ public class PostDetailResponse {
      */
     @Getter
     @Builder
+    @Jacksonized
     public static class ImageInfo {
         private Long id;
         private String url;
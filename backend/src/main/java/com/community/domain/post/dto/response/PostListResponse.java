@@ -1,8 +1,11 @@
 package com.community.domain.post.dto.response;
 
+import com.community.domain.post.dto.projection.PostSummary;
 import com.community.domain.post.entity.Post;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,9 +14,11 @@ import java.util.List;
  * 게시글 목록 응답 DTO
  *
  * <p>게시글 목록에 표시될 요약 정보만 포함합니다.</p>
+ * <p>공지 목록 캐시(Redis JSON)에서 역직렬화할 수 있도록 빌더 기반 역직렬화를 사용합니다.</p>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class PostListResponse {
 
     /**
@@ -39,6 +44,7 @@ public class PostListResponse {
     /**
      * 익명 여부
      */
+    @JsonProperty("anonymous")
     private boolean isAnonymous;
 
     /**
@@ -74,6 +80,7 @@ public class PostListResponse {
     /**
      * 공지글 여부
      */
+    @JsonProperty("notice")
     private boolean isNotice;
 
     /**
@@ -81,6 +88,22 @@ public class PostListResponse {
      */
     private LocalDateTime createdAt;
 
+    /**
+     * 내 반응 (LIKE, DISLIKE, null)
+     */
+    private String myReaction;
+
+    /**
+     * 북마크 여부
+     */
+    @JsonProperty("bookmarked")
+    private boolean isBookmarked;
+
+    /**
+     * 검색 하이라이트 (전문 검색 시에만, 키워드는 &lt;mark&gt;로 감싼 HTML)
+     */
+    private String highlight;
+
     /**
      * Entity → DTO 변환
      */
@@ -102,6 +125,27 @@ public class PostListResponse {
                 .build();
     }
 
+    /**
+     * 요약 프로젝션 → DTO 변환 (Post 엔티티 없이 목록 응답 생성)
+     */
+    public static PostListResponse from(PostSummary summary, List<String> tags) {
+        return PostListResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .preview(extractPreview(summary.getContentHead()))
+                .author(AuthorInfo.from(summary, summary.isAnonymous()))
+                .isAnonymous(summary.isAnonymous())
+                .viewCount(summary.getViewCount())
+                .commentCount(summary.getCommentCount())
+                .likeCount(summary.getLikeCount())
+                .hasImage(summary.isHasImage())
+                .thumbnailUrl(summary.getThumbnailUrl())
+                .tags(tags)
+                .isNotice(summary.isNotice())
+                .createdAt(summary.getCreatedAt())
+                .build();
+    }
+
     /**
      * 내용에서 미리보기 추출 (HTML 태그 제거 후 100자)
      */
@@ -110,8 +154,8 @@ public class PostListResponse {
             return "";
         }
 
-        // HTML 태그 제거
-        String plainText = content.replaceAll("<[^>]*>", "");
+        // HTML 태그 제거 (앞부분만 조회한 경우 잘린 마지막 태그까지 제거)
+        String plainText = content.replaceAll("<[^>]*>", "").replaceAll("<[^>]*$", "");
 
         // 100자로 자르기
         if (plainText.length() > 100) {
@@ -134,6 +178,7 @@ public class PostListResponse {
      */
     @Getter
     @Builder
+    @Jacksonized
     public static class AuthorInfo {
         private Long id;
         private String nickname;
@@ -154,5 +199,21 @@ public class PostListResponse {
                     .profileImage(user.getProfileImage())
                     .build();
         }
+
+        public static AuthorInfo from(PostSummary summary, boolean isAnonymous) {
+            if (isAnonymous) {
+                return AuthorInfo.builder()
+                        .id(null)
+                        .nickname("익명")
+                        .profileImage(null)
+                        .build();
+            }
+
+            return AuthorInfo.builder()
+                    .id(summary.getUserId())
+                    .nickname(summary.getNickname())
+                    .profileImage(summary.getProfileImage())
+                    .build();
+        }
     }
 }
\ No newline at end of file
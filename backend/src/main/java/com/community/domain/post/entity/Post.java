@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.Type;
 
@@ -19,10 +20,15 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 게시판 목록 keyset 페이지네이션 (board_id, is_notice, created_at, id)
+        @Index(name = "idx_posts_board_notice_created", columnList = "board_id, is_notice, created_at DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @SQLRestriction("deleted_at IS NULL")
+// 변경된 컬럼만 UPDATE (수정/공지 전환 시 원자적으로 갱신되는 카운터 컬럼을 덮어쓰지 않도록)
+@DynamicUpdate
 public class Post extends BaseAuditableEntity implements Reactable {
     /**
      * 제목
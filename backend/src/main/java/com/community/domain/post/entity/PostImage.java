@@ -8,7 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_images")
+@Table(name = "post_images", indexes = {
+        // 목록 조회 시 이미지 존재 여부 (EXISTS) 확인용
+        @Index(name = "idx_post_images_post_id", columnList = "post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostImage extends BaseEntity {
@@ -10,7 +10,12 @@ import lombok.NoArgsConstructor;
  * 게시글-태그 연결 엔티티 (N:M)
  */
 @Entity
-@Table(name = "post_tags")
+@Table(name = "post_tags", indexes = {
+        // 태그별 게시글 검색 (tag_id로 찾고 post_id만 읽는 index-only 세미 조인)
+        @Index(name = "idx_post_tags_tag_post", columnList = "tag_id, post_id"),
+        // 게시글별 태그 조회/삭제
+        @Index(name = "idx_post_tags_post", columnList = "post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostTag {
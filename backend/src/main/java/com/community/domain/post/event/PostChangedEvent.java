@@ -0,0 +1,42 @@
+package com.community.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 변경 이벤트
+ *
+ * <p>{@link com.community.domain.post.service.PostService}에서 발행하며, 커밋 이후 캐시 무효화 등에 사용합니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;
+    private final Long boardId;
+    private final String boardSlug;
+    private final ChangeType changeType;
+
+    /**
+     * 변경 시점의 공지글 여부 (토글이면 토글 이후 값)
+     */
+    private final boolean notice;
+
+    /**
+     * 공지 목록에 영향을 주는 변경인지 여부
+     */
+    public boolean affectsNotices() {
+        return notice || changeType == ChangeType.NOTICE_TOGGLED;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ChangeType {
+        CREATED("생성"),
+        UPDATED("수정"),
+        DELETED("삭제"),
+        NOTICE_TOGGLED("공지 토글");
+
+        private final String description;
+    }
+}
@@ -0,0 +1,80 @@
+package com.community.domain.post.event;
+
+import com.community.domain.post.service.HomeFeedService;
+import com.community.domain.post.service.NoticeCache;
+import com.community.domain.post.service.PostDetailCache;
+import com.community.domain.post.service.PostRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트 리스너
+ *
+ * <p>트랜잭션 커밋 이후에만 실행되므로 롤백된 변경으로 캐시를 비우지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostChangedEventListener {
+
+    private final NoticeCache noticeCache;
+    private final PostDetailCache postDetailCache;
+    private final PostRankingService postRankingService;
+    private final HomeFeedService homeFeedService;
+
+    /**
+     * 게시글 상세 캐시 무효화 (버전 증가)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void bumpDetail(PostChangedEvent event) {
+        postDetailCache.bump(event.getPostId());
+    }
+
+    /**
+     * 인기 랭킹 반영 (작성된 게시글 등록, 삭제된 게시글 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void updateRanking(PostChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> postRankingService.register(event.getPostId(), event.getBoardId(), LocalDateTime.now());
+            case DELETED -> postRankingService.remove(event.getPostId(), event.getBoardId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 홈 피드 반영 (작성은 앞에 추가, 수정/삭제/공지 토글은 해당 게시판 피드 무효화)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void updateHomeFeed(PostChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                if (!event.isNotice()) {
+                    homeFeedService.add(event.getPostId(), event.getBoardId());
+                }
+            }
+            case UPDATED, DELETED -> homeFeedService.evict(event.getPostId(), event.getBoardId());
+            case NOTICE_TOGGLED -> homeFeedService.evictBoard(event.getBoardId());
+        }
+    }
+
+    /**
+     * 공지 목록 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictNotices(PostChangedEvent event) {
+        if (!event.affectsNotices()) {
+            return;
+        }
+
+        noticeCache.evict(event.getBoardSlug());
+        log.debug("[NOTICE_CACHE] 공지 캐시 무효화: boardSlug={}, postId={}, changeType={}",
+                event.getBoardSlug(), event.getPostId(), event.getChangeType());
+    }
+}
@@ -1,5 +1,6 @@
 package com.community.domain.post.repository;
 
+import com.community.domain.post.dto.projection.PostRankingMeta;
 import com.community.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,33 +32,79 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     Page<Post> findByBoardId(@Param("boardId") Long boardId, Pageable pageable);
 
     /**
-     * 게시판별 게시글 목록 조회 - slug (공지글 제외)
+     * 게시판에 게시글 존재 여부 확인
      */
-    @Query("select p from Post p join fetch p.board b where b.slug = :slug and p.isNotice = false order by p.createdAt desc")
-    Page<Post> findByBoardSlug(@Param("slug") String slug, Pageable pageable);
+    boolean existsByBoardId(Long boardId);
 
     /**
-     * 게시판별 공지글 조회 (최대 5개)
+     * 조회수 일괄 증가 (벌크 연산)
      *
-     * <p>fetch join으로 board 함께 조회</p>
+     * <p>Redis 조회수 버퍼에 누적된 게시글별 증감분을 (ID, 증감분) 배열로 넘겨 UPDATE 한 번으로 반영합니다.</p>
+     *
+     * @param postIds 게시글 ID 목록
+     * @param deltas  게시글별 증감분 (postIds와 같은 순서)
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.board b WHERE b.slug = :slug AND p.isNotice = true ORDER BY p.createdAt DESC")
-    List<Post> findNoticesByBoardSlug(@Param("slug") String slug);
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE posts p
+            SET view_count = p.view_count + d.delta
+            FROM unnest(CAST(:postIds AS bigint[]), CAST(:deltas AS bigint[])) AS d(id, delta)
+            WHERE p.id = d.id
+            """, nativeQuery = true)
+    void incrementViewCounts(@Param("postIds") Long[] postIds, @Param("deltas") Long[] deltas);
 
     /**
-     * 사용자별 게시글 목록 조회
+     * 기간 내 작성된 게시글의 랭킹 메타 조회 (인기 게시글 랭킹 적재용)
      */
-    Page<Post> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query("SELECT p.id AS id, p.board.id AS boardId, p.createdAt AS createdAt, p.viewCount AS viewCount, " +
+            "p.likeCount AS likeCount, p.dislikeCount AS dislikeCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.createdAt >= :since")
+    List<PostRankingMeta> findRankingMetaSince(@Param("since") LocalDateTime since);
 
     /**
-     * 게시판에 게시글 존재 여부 확인
+     * 게시판별 최신 일반 게시글 ID 조회 (게시판마다 최대 limit개)
+     *
+     * <p>게시판마다 (board_id, is_notice, created_at, id) 인덱스를 LATERAL로 limit 만큼만 읽으므로
+     * 여러 게시판의 최신 글을 쿼리 한 번으로 가져옵니다.</p>
      */
-    boolean existsByBoardId(Long boardId);
+    @Query(value = """
+            SELECT p.id
+            FROM boards b
+            CROSS JOIN LATERAL (
+                SELECT id
+                FROM posts
+                WHERE board_id = b.id AND is_notice = false AND deleted_at IS NULL
+                ORDER BY created_at DESC, id DESC
+                LIMIT :limit
+            ) p
+            WHERE b.id IN (:boardIds)
+            """, nativeQuery = true)
+    List<Long> findLatestIdsByBoardIds(@Param("boardIds") Collection<Long> boardIds, @Param("limit") int limit);
+
+    /**
+     * 댓글 수 증감 (원자적 UPDATE)
+     *
+     * <p>게시글 엔티티를 수정하지 않고 comment_count 컬럼만 갱신하므로 동시 댓글 작성 시 갱신이 유실되지 않고,
+     * content/extra_fields 를 포함한 전체 row UPDATE 가 발생하지 않습니다.</p>
+     * <p>같은 트랜잭션의 변경(댓글 저장/삭제)을 먼저 flush 한 뒤 실행합니다.</p>
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = greatest(p.commentCount + :delta, 0) WHERE p.id = :postId")
+    void adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 좋아요 수 증감 (벌크 연산)
+     *
+     * <p>Redis 반응 카운터에 누적된 증감분을 같은 증감분을 가진 게시글끼리 묶어 반영합니다.</p>
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = greatest(p.likeCount + :delta, 0) WHERE p.id IN :postIds")
+    void adjustLikeCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
 
     /**
-     * 조회수 증가 (벌크 연산)
+     * 싫어요 수 증감 (벌크 연산)
      */
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void incrementViewCount(@Param("postId") Long postId);
-}
\ No newline at end of file
+    @Query("UPDATE Post p SET p.dislikeCount = greatest(p.dislikeCount + :delta, 0) WHERE p.id IN :postIds")
+    void adjustDislikeCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+}
@@ -1,12 +1,19 @@
 package com.community.domain.post.repository;
 
+import com.community.core.common.dto.KeysetCursor;
 import com.community.domain.post.dto.condition.PostSearchCondition;
-import com.community.domain.post.entity.Post;
+import com.community.domain.post.dto.projection.PostSearchHit;
+import com.community.domain.post.dto.projection.PostSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 게시글 Custom Repository (QueryDSL)
+ *
+ * <p>목록 조회는 {@link PostSummary} 프로젝션으로 필요한 컬럼만 조회합니다.</p>
  */
 public interface PostRepositoryCustom {
 
@@ -15,7 +22,85 @@ public interface PostRepositoryCustom {
      *
      * @param condition 검색 조건
      * @param pageable 페이징 정보
-     * @return 게시글 목록
+     * @return 게시글 요약 목록
+     */
+    Page<PostSummary> searchPosts(PostSearchCondition condition, Pageable pageable);
+
+    /**
+     * 게시글 검색 - keyset (최신순, 태그 페이지용)
+     *
+     * <p>OFFSET 없이 (created_at, id) &lt; cursor 조건으로 다음 페이지를 조회합니다.</p>
+     *
+     * @param condition 검색 조건 (searchMode는 무시)
+     * @param cursor    마지막으로 조회한 게시글의 커서 (첫 페이지면 null)
+     * @param limit     조회 개수
+     * @return 게시글 요약 목록
+     */
+    List<PostSummary> searchPostsAfter(PostSearchCondition condition, KeysetCursor cursor, int limit);
+
+    /**
+     * 게시글 전문 검색 (pg_trgm, 관련도순)
+     *
+     * <p>title/content의 GIN 트라이그램 인덱스로 후보를 찾고, 페이지 범위의 게시글만 본문 발췌를 생성합니다.</p>
+     *
+     * @param condition 검색 조건 (keyword 필수)
+     * @param pageable  페이징 정보 (정렬은 관련도 고정)
+     * @return 검색 결과 (ID, 점수, 발췌)
+     */
+    Page<PostSearchHit> searchHits(PostSearchCondition condition, Pageable pageable);
+
+    /**
+     * ID 목록으로 게시글 요약 조회 (순서 보장 X)
+     *
+     * @param ids 게시글 ID 목록
+     * @return 게시글 요약 목록
+     */
+    List<PostSummary> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * 게시판별 게시글 목록 조회 (공지글 제외)
+     *
+     * @param boardId  게시판 ID
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 목록
+     */
+    Page<PostSummary> findSummariesByBoardId(Long boardId, Pageable pageable);
+
+    /**
+     * 게시판별 게시글 목록 조회 - keyset (공지글 제외)
+     *
+     * <p>(created_at, id) 내림차순으로 커서 이후의 게시글을 조회합니다.</p>
+     *
+     * @param boardId 게시판 ID
+     * @param cursor 마지막으로 조회한 게시글의 커서 (첫 페이지면 null)
+     * @param limit  조회 개수
+     * @return 게시글 요약 목록
+     */
+    List<PostSummary> findSummariesByBoardIdAfter(Long boardId, KeysetCursor cursor, int limit);
+
+    /**
+     * 게시판별 공지글 조회 (최신순)
+     *
+     * @param boardId 게시판 ID
+     * @param limit 최대 개수
+     * @return 공지글 요약 목록
+     */
+    List<PostSummary> findNoticeSummariesByBoardId(Long boardId, int limit);
+
+    /**
+     * 사용자별 게시글 목록 조회 (최신순)
+     *
+     * @param userId   사용자 ID
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 목록
+     */
+    Page<PostSummary> findSummariesByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 게시판별 게시글 수 (공지글 제외)
+     *
+     * @param boardId 게시판 ID
+     * @return 게시글 수
      */
-    Page<Post> searchPosts(PostSearchCondition condition, Pageable pageable);
-}
\ No newline at end of file
+    long countByBoardId(Long boardId);
+}
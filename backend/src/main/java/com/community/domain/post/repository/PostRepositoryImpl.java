@@ -1,21 +1,35 @@
 package com.community.domain.post.repository;
 
-import com.community.core.common.entity.QBaseEntity;
-import com.community.domain.board.entity.QBoard;
+import com.community.core.common.dto.KeysetCursor;
 import com.community.domain.post.dto.condition.PostSearchCondition;
-import com.community.domain.post.entity.Post;
+import com.community.domain.post.dto.condition.TagMatchType;
+import com.community.domain.post.dto.projection.PostSearchHit;
+import com.community.domain.post.dto.projection.PostSummary;
 import com.community.domain.post.entity.QPost;
+import com.community.domain.post.entity.QPostImage;
+import com.community.domain.post.entity.QPostTag;
+import com.community.domain.tag.entity.QTag;
 import com.community.domain.user.entity.QUser;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게시글 Custom Repository 구현체 (QueryDSL)
@@ -24,23 +38,36 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
+    /**
+     * 미리보기 생성을 위해 조회하는 content 앞부분 길이 (HTML 태그 포함)
+     */
+    private static final int CONTENT_HEAD_LENGTH = 1000;
+
+    /**
+     * 검색 발췌 길이 / 키워드 앞쪽 여유 길이
+     */
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int SNIPPET_LEAD = 40;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
-    public Page<Post> searchPosts(PostSearchCondition condition, Pageable pageable) {
+    public Page<PostSummary> searchPosts(PostSearchCondition condition, Pageable pageable) {
         QPost post = QPost.post;
-        QBoard board = QBoard.board;
-        QUser user = QUser.user;
+
+        // 존재하지 않는 태그로 검색하면 결과 없음 (쿼리 생략)
+        List<Long> tagIds = resolveTagIds(condition);
+        if (tagIds != null && tagIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
 
         // 게시글 목록 조회
-        List<Post> content = queryFactory
-                .selectFrom(post)
-                .join(post.board, board).fetchJoin()
-                .join(post.user, user).fetchJoin()
+        List<PostSummary> content = selectSummary()
                 .where(
                         boardIdEq(condition.getBoardId()),
                         keywordContains(condition.getKeyword()),
-                        tagEq(condition.getTag())
+                        tagIn(tagIds, condition.getTagMatch())
                 )
                 .orderBy(
                         post.isNotice.desc(),
@@ -57,14 +84,298 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .where(
                         boardIdEq(condition.getBoardId()),
                         keywordContains(condition.getKeyword()),
-                        tagEq(condition.getTag())
+                        tagIn(tagIds, condition.getTagMatch())
                 );
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public List<PostSummary> searchPostsAfter(PostSearchCondition condition, KeysetCursor cursor, int limit) {
+        QPost post = QPost.post;
+
+        List<Long> tagIds = resolveTagIds(condition);
+        if (tagIds != null && tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        return selectSummary()
+                .where(
+                        boardIdEq(condition.getBoardId()),
+                        keywordContains(condition.getKeyword()),
+                        tagIn(tagIds, condition.getTagMatch()),
+                        cursorBefore(cursor)
+                )
+                .orderBy(
+                        post.createdAt.desc(),
+                        post.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Page<PostSearchHit> searchHits(PostSearchCondition condition, Pageable pageable) {
+        List<Long> tagIds = resolveTagIds(condition);
+        if (tagIds != null && tagIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        String where = fullTextWhere(condition, tagIds, params);
+
+        // 1. 관련도순 페이지 (ID + 점수만 정렬) → 2. 페이지 범위만 HTML 제거 후 발췌
+        String sql = """
+                SELECT r.id, r.score,
+                       substring(t.plain FROM greatest(strpos(lower(t.plain), lower(:keyword)) - :snippetLead, 1) FOR :snippetLength)
+                FROM (
+                    SELECT p.id, p.content, p.created_at,
+                           CAST((CASE WHEN p.title ILIKE :pattern THEN 1 ELSE 0 END)
+                                + word_similarity(:keyword, p.title) AS double precision) AS score
+                    FROM posts p
+                    WHERE %s
+                    ORDER BY score DESC, p.created_at DESC, p.id DESC
+                    LIMIT :limit OFFSET :offset
+                ) r
+                CROSS JOIN LATERAL (SELECT regexp_replace(r.content, '<[^>]*>', '', 'g') AS plain) t
+                ORDER BY r.score DESC, r.created_at DESC, r.id DESC
+                """.formatted(where);
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        query.setParameter("snippetLead", SNIPPET_LEAD);
+        query.setParameter("snippetLength", SNIPPET_LENGTH);
+        query.setParameter("limit", pageable.getPageSize());
+        query.setParameter("offset", pageable.getOffset());
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<PostSearchHit> content = rows.stream()
+                .map(row -> new PostSearchHit(
+                        ((Number) row[0]).longValue(),
+                        ((Number) row[1]).doubleValue(),
+                        (String) row[2]))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query countQuery = entityManager.createNativeQuery("SELECT count(*) FROM posts p WHERE " + where);
+            params.forEach(countQuery::setParameter);
+            return ((Number) countQuery.getSingleResult()).longValue();
+        });
+    }
+
+    @Override
+    public List<PostSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return selectSummary()
+                .where(QPost.post.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public Page<PostSummary> findSummariesByBoardId(Long boardId, Pageable pageable) {
+        QPost post = QPost.post;
+
+        List<PostSummary> content = selectSummary()
+                .where(
+                        post.board.id.eq(boardId),
+                        post.isNotice.isFalse()
+                )
+                .orderBy(
+                        post.createdAt.desc(),
+                        post.id.desc()
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByBoardId(boardId));
+    }
+
+    @Override
+    public List<PostSummary> findSummariesByBoardIdAfter(Long boardId, KeysetCursor cursor, int limit) {
+        QPost post = QPost.post;
+
+        return selectSummary()
+                .where(
+                        post.board.id.eq(boardId),
+                        post.isNotice.isFalse(),
+                        cursorBefore(cursor)
+                )
+                .orderBy(
+                        post.createdAt.desc(),
+                        post.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PostSummary> findNoticeSummariesByBoardId(Long boardId, int limit) {
+        QPost post = QPost.post;
+
+        return selectSummary()
+                .where(
+                        post.board.id.eq(boardId),
+                        post.isNotice.isTrue()
+                )
+                .orderBy(post.createdAt.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Page<PostSummary> findSummariesByUserId(Long userId, Pageable pageable) {
+        QPost post = QPost.post;
+
+        JPAQuery<PostSummary> query = selectSummary()
+                .where(post.user.id.eq(userId))
+                .orderBy(post.createdAt.desc());
+
+        if (pageable.isUnpaged()) {
+            List<PostSummary> content = query.fetch();
+            return PageableExecutionUtils.getPage(content, pageable, content::size);
+        }
+
+        List<PostSummary> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(post.user.id.eq(userId));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public long countByBoardId(Long boardId) {
+        QPost post = QPost.post;
+
+        Long count = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(
+                        post.board.id.eq(boardId),
+                        post.isNotice.isFalse()
+                )
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+
+    // ========== 프로젝션 ==========
+
+    /**
+     * 목록 요약 조회 쿼리 (posts + users 필요한 컬럼만)
+     */
+    private JPAQuery<PostSummary> selectSummary() {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .join(post.user, user);
+    }
+
+    /**
+     * PostSummary 생성자 프로젝션
+     *
+     * <p>content는 앞부분만, extra_fields는 thumbnailUrl 키만 조회합니다.</p>
+     */
+    private ConstructorExpression<PostSummary> summaryProjection() {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+        QPostImage postImage = QPostImage.postImage;
+
+        return Projections.constructor(PostSummary.class,
+                post.id,
+                post.title,
+                post.content.substring(0, CONTENT_HEAD_LENGTH),
+                post.isAnonymous,
+                post.viewCount,
+                post.commentCount,
+                post.likeCount,
+                new CaseBuilder()
+                        .when(JPAExpressions.selectOne()
+                                .from(postImage)
+                                .where(postImage.post.id.eq(post.id))
+                                .exists())
+                        .then(true)
+                        .otherwise(false),
+                Expressions.stringTemplate(
+                        "function('jsonb_extract_path_text', {0}, 'thumbnailUrl')", post.extraFields),
+                post.isNotice,
+                post.createdAt,
+                post.board.id,
+                user.id,
+                user.nickname,
+                user.profileImage
+        );
+    }
+
     // ========== 동적 쿼리 조건 ==========
 
+    /**
+     * 전문 검색 WHERE 절 (native)
+     *
+     * <p>ILIKE '%keyword%'는 gin_trgm_ops 인덱스(db/post-search-index.sql)로 처리됩니다.
+     * 3글자 미만 키워드는 트라이그램이 만들어지지 않아 인덱스 효과가 제한됩니다.</p>
+     */
+    private String fullTextWhere(PostSearchCondition condition, List<Long> tagIds, Map<String, Object> params) {
+        String keyword = condition.getKeyword().trim();
+        params.put("keyword", keyword);
+        params.put("pattern", "%" + escapeLike(keyword) + "%");
+
+        StringBuilder where = new StringBuilder("p.deleted_at IS NULL AND (p.title ILIKE :pattern OR p.content ILIKE :pattern)");
+        if (condition.getBoardId() != null) {
+            where.append(" AND p.board_id = :boardId");
+            params.put("boardId", condition.getBoardId());
+        }
+        if (tagIds != null) {
+            where.append(condition.getTagMatch() == TagMatchType.ALL
+                    ? " AND p.id IN (SELECT pt.post_id FROM post_tags pt WHERE pt.tag_id IN (:tagIds)"
+                      + " GROUP BY pt.post_id HAVING count(DISTINCT pt.tag_id) = :tagCount)"
+                    : " AND EXISTS (SELECT 1 FROM post_tags pt WHERE pt.post_id = p.id AND pt.tag_id IN (:tagIds))");
+            params.put("tagIds", tagIds);
+            if (condition.getTagMatch() == TagMatchType.ALL) {
+                params.put("tagCount", (long) tagIds.size());
+            }
+        }
+        return where.toString();
+    }
+
+    /**
+     * LIKE 와일드카드 이스케이프 (PostgreSQL 기본 ESCAPE 문자는 백슬래시)
+     */
+    private String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * keyset 커서 조건 ((created_at, id) &lt; (cursor.createdAt, cursor.id))
+     *
+     * <p>OR 로 풀어 쓰면 PostgreSQL 이 인덱스 범위 탐색 대신 필터로 처리하므로 row value 비교로 만들고,
+     * 행 비교를 펼쳐 주는 방언에서도 범위 탐색이 되도록 {@code created_at <= ?} 를 함께 겁니다.</p>
+     */
+    private BooleanExpression cursorBefore(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        QPost post = QPost.post;
+        return post.createdAt.loe(cursor.getCreatedAt())
+                .and(Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                        post.createdAt, post.id, cursor.getCreatedAt(), cursor.getId()));
+    }
+
     /**
      * 게시판 ID 조건
      */
@@ -85,10 +396,60 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     /**
-     * 태그 검색 (TODO: PostTag 조인 필요)
+     * 검색 태그명 → 태그 ID
+     *
+     * <p>tags.name 유니크 인덱스로 먼저 ID를 구해 post_tags (tag_id, post_id) 인덱스만으로 필터링합니다.</p>
+     *
+     * @return 태그 조건이 없으면 null, 만족할 수 없는 조건이면 빈 목록
      */
-    private BooleanExpression tagEq(String tag) {
-        // TODO: PostTag 조인 후 구현
-        return null;
+    private List<Long> resolveTagIds(PostSearchCondition condition) {
+        List<String> tagNames = condition.getTagNames();
+        if (tagNames.isEmpty()) {
+            return null;
+        }
+
+        QTag tag = QTag.tag;
+        List<Long> tagIds = queryFactory
+                .select(tag.id)
+                .from(tag)
+                .where(tag.name.in(tagNames))
+                .fetch();
+
+        // AND 검색은 하나라도 없는 태그가 있으면 결과 없음
+        if (condition.getTagMatch() == TagMatchType.ALL && tagIds.size() < tagNames.size()) {
+            return List.of();
+        }
+        return tagIds;
+    }
+
+    /**
+     * 태그 조건 (post_tags 세미 조인)
+     *
+     * <p>ANY: EXISTS (tag_id IN ...), ALL: 태그를 모두 가진 post_id (GROUP BY + HAVING)</p>
+     */
+    private BooleanExpression tagIn(List<Long> tagIds, TagMatchType matchType) {
+        if (tagIds == null) {
+            return null;
+        }
+
+        QPost post = QPost.post;
+        QPostTag postTag = QPostTag.postTag;
+
+        if (matchType == TagMatchType.ALL) {
+            return post.id.in(JPAExpressions
+                    .select(postTag.post.id)
+                    .from(postTag)
+                    .where(postTag.tag.id.in(tagIds))
+                    .groupBy(postTag.post.id)
+                    .having(postTag.tag.id.countDistinct().eq((long) tagIds.size())));
+        }
+
+        return JPAExpressions.selectOne()
+                .from(postTag)
+                .where(
+                        postTag.post.id.eq(post.id),
+                        postTag.tag.id.in(tagIds)
+                )
+                .exists();
     }
-}
\ No newline at end of file
+}
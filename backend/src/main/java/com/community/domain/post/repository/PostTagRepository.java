@@ -1,14 +1,47 @@
 package com.community.domain.post.repository;
 
+import com.community.domain.post.dto.projection.PostTagName;
 import com.community.domain.post.entity.PostTag;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
 
     @Modifying
     @Query("Delete from PostTag pt where pt.post.id = :postId")
     void deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 태그 ID 조회
+     */
+    @Query("select pt.tag.id from PostTag pt where pt.post.id = :postId")
+    List<Long> findTagIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글-태그 연결 일괄 생성 (입력 순서대로 ID 부여)
+     *
+     * <p>IDENTITY 키라 JPA cascade 로는 태그마다 INSERT 가 나가므로 한 번의 INSERT ... SELECT 로 저장합니다.</p>
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_tags (post_id, tag_id)
+            SELECT :postId, t.tag_id
+            FROM unnest(CAST(:tagIds AS bigint[])) WITH ORDINALITY AS t(tag_id, ord)
+            ORDER BY t.ord
+            """, nativeQuery = true)
+    int insertAll(@Param("postId") Long postId, @Param("tagIds") Long[] tagIds);
+
+    /**
+     * 게시글 목록의 태그명 일괄 조회 (N+1 방지용)
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID - 태그명 목록 (등록 순)
+     */
+    @Query("select pt.post.id as postId, t.name as tagName from PostTag pt join pt.tag t where pt.post.id in :postIds order by pt.id")
+    List<PostTagName> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,346 @@
+package com.community.domain.post.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.board.service.BoardMeta;
+import com.community.domain.board.service.BoardRegistry;
+import com.community.domain.post.dto.projection.PostSummary;
+import com.community.domain.post.dto.response.HomeFeedResponse;
+import com.community.domain.post.dto.response.PostListResponse;
+import com.community.domain.post.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 피드 서비스 (게시판별 최신 게시글 사전 구성)
+ *
+ * <p>활성 게시판마다 최신 일반 게시글 N개의 목록 응답을 Redis Hash 하나에 보관하고, 홈 화면을 HMGET 한 번으로 응답합니다.</p>
+ * <p>키 구조: {@code cache:home-feed} → field: 게시판 ID, value: {@code {postId}:{PostListResponse JSON}} 행을 줄바꿈으로 연결</p>
+ * <p>게시글 작성은 해당 게시판 행 앞에 한 줄을 붙이고(Lua), 수정/삭제/공지 토글은 해당 게시판 필드만 지워
+ * 다음 조회에서 다시 구성합니다. 비어 있는 게시판 필드는 여러 게시판을 LATERAL 쿼리 한 번으로 채웁니다.</p>
+ * <p>조회수/댓글 수 등 카운터 값은 Hash TTL 동안만 유지되며, 사용자별 상태는 조회 시점에 반영합니다.</p>
+ * <p>게시판마다 세대 번호({@code cache:home-feed:gen} → field: 게시판 ID)를 두고 작성/수정/삭제/공지 토글마다 올립니다.
+ * 재구성은 DB 조회 전에 읽은 세대가 그대로일 때만 저장(Lua)하므로, 그 사이 바뀐 게시판에 오래된 목록을 쓰지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeFeedService {
+
+    private static final String KEY = "home-feed";
+    private static final String GENERATION_KEY = "home-feed:gen";
+    private static final long GENERATION_TTL_SECONDS = 7 * 86400L;
+    private static final String ROW_DELIMITER = "\n";
+    private static final String ID_DELIMITER = ":";
+
+    /**
+     * 게시판 필드 앞에 행 추가 (원자적, 세대 증가)
+     * KEYS: feed, gen / ARGV: boardId, 행, 최대 행 수, 게시글 표식, 세대 TTL
+     *
+     * <p>필드가 없으면(아직 구성 전) 다음 조회에서 DB로 구성하므로 건너뜁니다.
+     * 세대는 항상 올려, 이 게시글을 놓친 채 진행 중인 재구성이 저장되지 않게 합니다.</p>
+     */
+    private static final RedisScript<Long> PREPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then return 0 end
+            if string.find('\\n' .. current, ARGV[4], 1, true) then return 0 end
+            local rows = ARGV[2]
+            if current ~= '' then rows = rows .. '\\n' .. current end
+            local count, pos = 1, 0
+            while true do
+                pos = string.find(rows, '\\n', pos + 1, true)
+                if not pos then break end
+                if count >= tonumber(ARGV[3]) then
+                    rows = string.sub(rows, 1, pos - 1)
+                    break
+                end
+                count = count + 1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], rows)
+            return 1
+            """, Long.class);
+
+    /**
+     * 게시판 필드 삭제 (세대 증가, 게시글 표식이 있으면 그 게시글이 포함된 경우만 삭제)
+     * KEYS: feed, gen / ARGV: boardId, 세대 TTL, 게시글 표식(선택)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current and (not ARGV[3] or string.find('\\n' .. current, ARGV[3], 1, true)) then
+                return redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 재구성한 게시판 필드 저장 (조회 전에 읽은 세대가 그대로인 게시판만)
+     * KEYS: feed, gen / ARGV: TTL, (boardId, 세대, 행) 반복
+     *
+     * <p>만료 시각은 Hash에 TTL이 없을 때만 지정합니다 (일부 게시판 재구성으로 TTL이 연장되지 않도록).</p>
+     */
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local written = 0
+            for i = 2, #ARGV, 3 do
+                local generation = redis.call('HGET', KEYS[2], ARGV[i]) or '0'
+                if generation == ARGV[i + 1] then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2])
+                    written = written + 1
+                end
+            end
+            if written > 0 and redis.call('TTL', KEYS[1]) == -1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return written
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+    private final PostRepository postRepository;
+    private final PostListAssembler postListAssembler;
+    private final ViewerStateAssembler viewerStateAssembler;
+    private final BoardRegistry boardRegistry;
+
+    /**
+     * 홈 피드 조회
+     *
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
+     * @return 활성 게시판별 최신 게시글
+     */
+    public HomeFeedResponse getHomeFeed(Long viewerId) {
+        List<BoardMeta> boards = boardRegistry.getAll().stream()
+                .filter(BoardMeta::isActive)
+                .sorted(Comparator.comparingInt(BoardMeta::getDisplayOrder).thenComparing(BoardMeta::getId))
+                .toList();
+        Map<Long, List<PostListResponse>> postsByBoardId = load(boards);
+
+        // 사용자별 상태는 모든 게시판을 합쳐 한 번에 반영
+        List<PostListResponse> all = new ArrayList<>();
+        boards.forEach(board -> all.addAll(postsByBoardId.get(board.getId())));
+        List<PostListResponse> applied = viewerStateAssembler.apply(all, viewerId);
+
+        List<HomeFeedResponse.BoardFeed> feeds = new ArrayList<>(boards.size());
+        int from = 0;
+        for (BoardMeta board : boards) {
+            int to = from + postsByBoardId.get(board.getId()).size();
+            feeds.add(HomeFeedResponse.BoardFeed.builder()
+                    .boardId(board.getId())
+                    .slug(board.getSlug())
+                    .name(board.getName())
+                    .posts(applied.subList(from, to))
+                    .build());
+            from = to;
+        }
+        return HomeFeedResponse.builder().boards(feeds).build();
+    }
+
+    /**
+     * 게시판별 최신 게시글 조회 (Redis → 없는 게시판만 DB)
+     */
+    private Map<Long, List<PostListResponse>> load(List<BoardMeta> boards) {
+        Map<Long, List<PostListResponse>> postsByBoardId = new HashMap<>(boards.size() * 2);
+        if (boards.isEmpty()) {
+            return postsByBoardId;
+        }
+
+        byte[][] fields = boards.stream().map(board -> bytes(String.valueOf(board.getId()))).toArray(byte[][]::new);
+        List<?> values;
+        List<?> generations;
+        try {
+            // 피드와 세대를 함께 읽음 (세대는 DB 조회 전 값이어야 함)
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hMGet(bytes(key()), fields);
+                connection.hashCommands().hMGet(bytes(generationKey()), fields);
+                return null;
+            });
+            values = (List<?>) replies.get(0);
+            generations = (List<?>) replies.get(1);
+        } catch (DataAccessException e) {
+            log.warn("[HOME_FEED] 캐시 조회 실패 (DB 조회): message={}", e.getMessage());
+            return build(boards.stream().map(BoardMeta::getId).toList());
+        }
+
+        List<Long> missing = new ArrayList<>();
+        Map<Long, String> missingGenerations = new HashMap<>();
+        for (int i = 0; i < boards.size(); i++) {
+            Long boardId = boards.get(i).getId();
+            List<PostListResponse> posts = values.get(i) != null ? parse(values.get(i).toString()) : null;
+            if (posts == null) {
+                missing.add(boardId);
+                missingGenerations.put(boardId, generations.get(i) != null ? generations.get(i).toString() : "0");
+            } else {
+                postsByBoardId.put(boardId, posts);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, List<PostListResponse>> built = build(missing);
+            write(built, missingGenerations);
+            postsByBoardId.putAll(built);
+        }
+        return postsByBoardId;
+    }
+
+    /**
+     * 게시판별 최신 게시글 DB 조회 (ID 쿼리 1회 + 요약 쿼리 1회)
+     */
+    private Map<Long, List<PostListResponse>> build(List<Long> boardIds) {
+        int size = appProperties.getPost().getHomeFeedSize();
+        List<PostSummary> summaries = new ArrayList<>(
+                postRepository.findSummariesByIds(postRepository.findLatestIdsByBoardIds(boardIds, size)));
+        summaries.sort(Comparator.comparing(PostSummary::getCreatedAt).thenComparing(PostSummary::getId).reversed());
+
+        Map<Long, List<PostListResponse>> postsByBoardId = new HashMap<>(boardIds.size() * 2);
+        boardIds.forEach(boardId -> postsByBoardId.put(boardId, new ArrayList<>()));
+        List<PostListResponse> responses = postListAssembler.toResponses(summaries);
+        for (int i = 0; i < summaries.size(); i++) {
+            postsByBoardId.get(summaries.get(i).getBoardId()).add(responses.get(i));
+        }
+
+        log.debug("[HOME_FEED] 게시판 피드 구성: boards={}, posts={}", boardIds.size(), summaries.size());
+        return postsByBoardId;
+    }
+
+    private void write(Map<Long, List<PostListResponse>> postsByBoardId, Map<Long, String> generations) {
+        try {
+            List<String> args = new ArrayList<>(postsByBoardId.size() * 3 + 1);
+            args.add(String.valueOf(appProperties.getPost().getHomeFeedCacheTtlSeconds()));
+            for (Map.Entry<Long, List<PostListResponse>> entry : postsByBoardId.entrySet()) {
+                List<String> rows = new ArrayList<>(entry.getValue().size());
+                for (PostListResponse response : entry.getValue()) {
+                    rows.add(row(response));
+                }
+                args.add(String.valueOf(entry.getKey()));
+                args.add(generations.get(entry.getKey()));
+                args.add(String.join(ROW_DELIMITER, rows));
+            }
+
+            Long written = redisTemplate.execute(WRITE_SCRIPT, List.of(key(), generationKey()), args.toArray());
+            if (written != null && written < postsByBoardId.size()) {
+                log.debug("[HOME_FEED] 재구성 중 변경된 게시판은 저장 생략: boards={}, written={}", postsByBoardId.size(), written);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[HOME_FEED] 캐시 저장 실패: boards={}, message={}", postsByBoardId.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 작성된 게시글을 게시판 피드 앞에 추가
+     *
+     * @param postId  게시글 ID
+     * @param boardId 게시판 ID
+     */
+    public void add(Long postId, Long boardId) {
+        List<PostSummary> summaries = postRepository.findSummariesByIds(List.of(postId));
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(PREPEND_SCRIPT, List.of(key(), generationKey()),
+                    String.valueOf(boardId),
+                    row(postListAssembler.toResponses(summaries).get(0)),
+                    String.valueOf(appProperties.getPost().getHomeFeedSize()),
+                    marker(postId),
+                    String.valueOf(GENERATION_TTL_SECONDS));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[HOME_FEED] 피드 추가 실패 (게시판 피드 삭제): postId={}, boardId={}, message={}", postId, boardId, e.getMessage());
+            evictBoard(boardId);
+        }
+    }
+
+    /**
+     * 게시글이 포함된 게시판 피드 무효화 (수정/삭제)
+     *
+     * @param postId  게시글 ID
+     * @param boardId 게시판 ID
+     */
+    public void evict(Long postId, Long boardId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(), generationKey()),
+                    String.valueOf(boardId), String.valueOf(GENERATION_TTL_SECONDS), marker(postId));
+        } catch (DataAccessException e) {
+            log.warn("[HOME_FEED] 피드 무효화 실패: postId={}, boardId={}, message={}", postId, boardId, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시판 피드 무효화 (공지 토글 등 목록 구성이 바뀌는 경우)
+     *
+     * @param boardId 게시판 ID
+     */
+    public void evictBoard(Long boardId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(), generationKey()),
+                    String.valueOf(boardId), String.valueOf(GENERATION_TTL_SECONDS));
+        } catch (DataAccessException e) {
+            log.warn("[HOME_FEED] 피드 무효화 실패: boardId={}, message={}", boardId, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시판 필드 → 게시글 목록 (역직렬화 실패 시 null → 재구성)
+     */
+    private List<PostListResponse> parse(String value) {
+        if (value.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            List<PostListResponse> posts = new ArrayList<>();
+            for (String row : value.split(ROW_DELIMITER)) {
+                posts.add(objectMapper.readValue(row.substring(row.indexOf(ID_DELIMITER) + 1), PostListResponse.class));
+            }
+            return posts;
+        } catch (JsonProcessingException e) {
+            log.warn("[HOME_FEED] 캐시 역직렬화 실패: message={}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 게시글 행 ({postId}:{JSON}, JSON 직렬화 결과에는 줄바꿈이 없음)
+     */
+    private String row(PostListResponse response) throws JsonProcessingException {
+        return response.getId() + ID_DELIMITER + objectMapper.writeValueAsString(response);
+    }
+
+    /**
+     * 필드 안에서 게시글 행을 찾는 표식 (행 시작의 "{postId}:")
+     */
+    private String marker(Long postId) {
+        return ROW_DELIMITER + postId + ID_DELIMITER;
+    }
+
+    private String key() {
+        return redisKeyProperties.getCache() + KEY;
+    }
+
+    private String generationKey() {
+        return redisKeyProperties.getCache() + GENERATION_KEY;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,179 @@
+package com.community.domain.post.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.post.dto.response.PostListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시판별 공지 목록 캐시 (로컬 + Redis 2단계)
+ *
+ * <p>공지는 관리자가 토글할 때만 바뀌므로 목록 요청마다 DB를 조회하지 않습니다.</p>
+ * <p>무효화는 {@link com.community.domain.post.event.PostChangedEvent} 커밋 이후에 이뤄지며,
+ * 다른 인스턴스의 로컬 캐시는 Redis Pub/Sub 메시지로 함께 비웁니다.</p>
+ * <p>Redis는 {@link PostDetailCache}와 같은 버전 키 방식입니다: {@code cache:notice:ver:{slug}} (버전) →
+ * {@code cache:notice:{slug}:v{version}} (데이터). 무효화 전에 DB를 읽은 요청이 늦게 저장해도 지난 버전 키에 쓰므로
+ * 오래된 목록이 노출되지 않습니다. 로컬 캐시도 조회 중 무효화가 있었으면 결과를 저장하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeCache implements MessageListener {
+
+    private static final String KEY = "notice:";
+    private static final String VERSION_KEY = "notice:ver:";
+    private static final String INVALIDATE_CHANNEL = "notice:invalidate";
+    private static final TypeReference<List<PostListResponse>> NOTICE_LIST = new TypeReference<>() {};
+
+    /**
+     * 버전 키 TTL (데이터 TTL보다 충분히 길게 유지)
+     */
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 게시판 slug → 공지 목록 (게시판 수만큼만 유지)
+     */
+    private final Map<String, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    /**
+     * 로컬 무효화 횟수 (조회 도중 무효화되었으면 로컬에 저장하지 않음)
+     */
+    private final AtomicLong localGeneration = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel()));
+    }
+
+    /**
+     * 공지 목록 조회 (로컬 → Redis → loader 순)
+     *
+     * @param slug   게시판 슬러그
+     * @param loader 캐시 미스 시 DB 조회 (최대 개수 제한 포함)
+     * @return 공지 목록
+     */
+    public List<PostListResponse> get(String slug, Supplier<List<PostListResponse>> loader) {
+        LocalEntry local = localCache.get(slug);
+        if (local != null && !local.isExpired()) {
+            return local.notices();
+        }
+        long generation = localGeneration.get();
+
+        String dataKey = dataKey(slug);
+        List<PostListResponse> notices = dataKey != null ? readRedis(slug, dataKey) : null;
+        if (notices == null) {
+            notices = loader.get();
+            if (dataKey != null) {
+                writeRedis(slug, dataKey, notices);
+            }
+        }
+
+        if (localGeneration.get() == generation) {
+            long localTtlMillis = Duration.ofSeconds(appProperties.getPost().getNoticeLocalCacheTtlSeconds()).toMillis();
+            localCache.put(slug, new LocalEntry(notices, System.currentTimeMillis() + localTtlMillis));
+        }
+        return notices;
+    }
+
+    /**
+     * 공지 목록 무효화 (로컬 + Redis 버전 증가 + 다른 인스턴스 로컬)
+     *
+     * @param slug 게시판 슬러그
+     */
+    public void evict(String slug) {
+        evictLocal(slug);
+        try {
+            String versionKey = versionKey(slug);
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, VERSION_TTL);
+            redisTemplate.convertAndSend(channel(), slug);
+        } catch (DataAccessException e) {
+            log.warn("[NOTICE_CACHE] 캐시 무효화 실패: slug={}, message={}", slug, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String slug) {
+        localGeneration.incrementAndGet();
+        localCache.remove(slug);
+    }
+
+    /**
+     * 현재 버전의 데이터 키 (Redis 장애 시 null)
+     */
+    private String dataKey(String slug) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(slug));
+            return redisKeyProperties.getCache() + KEY + slug + ":v" + (version != null ? version : "0");
+        } catch (DataAccessException e) {
+            log.warn("[NOTICE_CACHE] 버전 조회 실패: slug={}, message={}", slug, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<PostListResponse> readRedis(String slug, String dataKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(dataKey);
+            return json != null ? objectMapper.readValue(json, NOTICE_LIST) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[NOTICE_CACHE] 캐시 조회 실패: slug={}, message={}", slug, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String slug, String dataKey, List<PostListResponse> notices) {
+        try {
+            Duration ttl = Duration.ofSeconds(appProperties.getPost().getNoticeCacheTtlSeconds());
+            redisTemplate.opsForValue().set(dataKey, objectMapper.writeValueAsString(notices), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[NOTICE_CACHE] 캐시 저장 실패: slug={}, message={}", slug, e.getMessage());
+        }
+    }
+
+    private String versionKey(String slug) {
+        return redisKeyProperties.getCache() + VERSION_KEY + slug;
+    }
+
+    private String channel() {
+        return redisKeyProperties.getCache() + INVALIDATE_CHANNEL;
+    }
+
+    private record LocalEntry(List<PostListResponse> notices, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.community.domain.post.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.post.dto.response.PostDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 캐시 (cache-aside, 버전 키)
+ *
+ * <p>사용자와 무관한 상세 정보만 Redis에 JSON으로 저장하고, 사용자별 필드는 조회 시 덮어씁니다.</p>
+ * <p>키 구조: {@code cache:post:detail:ver:{postId}} (버전) → {@code cache:post:detail:{postId}:v{version}} (데이터)</p>
+ * <p>쓰기는 데이터를 지우지 않고 버전만 올립니다. 이전 버전 데이터는 TTL로 사라지며,
+ * 갱신 전 DB를 읽은 요청이 늦게 저장해도 이미 지난 버전 키에 쓰므로 오래된 값이 노출되지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    private static final String KEY = "post:detail:";
+    private static final String VERSION_KEY = "post:detail:ver:";
+
+    /**
+     * 버전 키 TTL (데이터 TTL보다 충분히 길게 유지)
+     */
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 상세 조회 (캐시 미스 시 loader 결과 저장)
+     *
+     * @param postId 게시글 ID
+     * @param loader DB 조회 (사용자별 필드 제외)
+     * @return 캐시된 상세 정보
+     */
+    public CachedDetail get(Long postId, Supplier<CachedDetail> loader) {
+        String dataKey;
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(postId));
+            dataKey = dataKey(postId, version != null ? version : "0");
+
+            String json = redisTemplate.opsForValue().get(dataKey);
+            if (json != null) {
+                return objectMapper.readValue(json, CachedDetail.class);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[POST_DETAIL_CACHE] 캐시 조회 실패: postId={}, message={}", postId, e.getMessage());
+            return loader.get();
+        }
+
+        CachedDetail detail = loader.get();
+        try {
+            Duration ttl = Duration.ofSeconds(appProperties.getPost().getDetailCacheTtlSeconds());
+            redisTemplate.opsForValue().set(dataKey, objectMapper.writeValueAsString(detail), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[POST_DETAIL_CACHE] 캐시 저장 실패: postId={}, message={}", postId, e.getMessage());
+        }
+        return detail;
+    }
+
+    /**
+     * 버전 증가 (기존 캐시 무효화)
+     *
+     * @param postId 게시글 ID
+     */
+    public void bump(Long postId) {
+        try {
+            String key = versionKey(postId);
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, VERSION_TTL);
+        } catch (DataAccessException e) {
+            log.warn("[POST_DETAIL_CACHE] 버전 증가 실패: postId={}, message={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 게시글 버전 증가 (파이프라인)
+     *
+     * @param postIds 게시글 ID 목록
+     */
+    public void bumpAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long postId : postIds) {
+                    byte[] key = versionKey(postId).getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().incr(key);
+                    connection.keyCommands().expire(key, VERSION_TTL.toSeconds());
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[POST_DETAIL_CACHE] 버전 일괄 증가 실패: posts={}, message={}", postIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 버전 증가 (트랜잭션 밖이면 즉시)
+     *
+     * <p>커밋 전에 버전을 올리면 그 사이 캐시 미스가 커밋 전 데이터를 새 버전에 저장할 수 있습니다.</p>
+     *
+     * @param postId 게시글 ID
+     */
+    public void bumpAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(postId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(postId);
+            }
+        });
+    }
+
+    private String versionKey(Long postId) {
+        return redisKeyProperties.getCache() + VERSION_KEY + postId;
+    }
+
+    private String dataKey(Long postId, String version) {
+        return redisKeyProperties.getCache() + KEY + postId + ":v" + version;
+    }
+
+    /**
+     * 캐시 항목 (사용자 공통 상세 + 작성자 ID)
+     *
+     * <p>익명 글은 응답의 author.id가 비어 있으므로 isAuthor 판단용 작성자 ID를 따로 보관합니다.</p>
+     *
+     * @param authorId 작성자 ID
+     * @param detail   사용자별 필드가 비어 있는 상세 응답 (viewCount는 DB 값)
+     */
+    public record CachedDetail(Long authorId, PostDetailResponse detail) {
+    }
+}
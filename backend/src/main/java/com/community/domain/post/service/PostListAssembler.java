@@ -0,0 +1,159 @@
+package com.community.domain.post.service;
+
+import com.community.domain.post.dto.projection.PostSearchHit;
+import com.community.domain.post.dto.projection.PostSummary;
+import com.community.domain.post.dto.projection.PostTagName;
+import com.community.domain.post.dto.response.PostListResponse;
+import com.community.domain.post.repository.PostTagRepository;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.service.ReactionCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 응답 조립기
+ *
+ * <p>한 페이지의 태그명을 한 번의 쿼리로 조회한 뒤 {@link PostListResponse}를 한 번에 조립합니다.</p>
+ * <p>게시글마다 {@code post.getTags()} → {@code postTag.getTag()}를 따라가는 N+1 조회를 대체합니다.</p>
+ * <p>좋아요 수는 Redis 반응 카운터에서 아직 DB에 반영되지 않은 증감분을 더해 보여줍니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostListAssembler {
+
+    private final PostTagRepository postTagRepository;
+    private final ReactionCounterService reactionCounterService;
+
+    /**
+     * 게시글 요약 목록 → 응답 목록
+     *
+     * @param summaries 게시글 요약 목록
+     * @return 게시글 목록 응답
+     */
+    public List<PostListResponse> toResponses(List<PostSummary> summaries) {
+        List<Long> postIds = summaries.stream().map(PostSummary::getId).toList();
+        Map<Long, List<String>> tagsByPostId = loadTagNames(postIds);
+        Map<Long, ReactionCounterService.PendingCounts> pendingByPostId = loadPendingCounts(postIds);
+
+        return summaries.stream()
+                .map(summary -> toResponse(summary, tagsByPostId, pendingByPostId))
+                .toList();
+    }
+
+    /**
+     * 게시글 요약 페이지 → 응답 페이지
+     *
+     * @param summaryPage 게시글 요약 페이지
+     * @return 게시글 목록 응답 페이지
+     */
+    public Page<PostListResponse> toResponsePage(Page<PostSummary> summaryPage) {
+        List<Long> postIds = summaryPage.getContent().stream().map(PostSummary::getId).toList();
+        Map<Long, List<String>> tagsByPostId = loadTagNames(postIds);
+        Map<Long, ReactionCounterService.PendingCounts> pendingByPostId = loadPendingCounts(postIds);
+
+        return summaryPage.map(summary -> toResponse(summary, tagsByPostId, pendingByPostId));
+    }
+
+    /**
+     * 전문 검색 결과 페이지 → 응답 페이지 (관련도 순서 유지 + 하이라이트)
+     *
+     * @param hitPage   검색 결과 페이지 (ID, 점수, 발췌)
+     * @param summaries 검색 결과 게시글 요약 (순서 무관)
+     * @param keyword   검색 키워드
+     * @return 게시글 목록 응답 페이지
+     */
+    public Page<PostListResponse> toSearchResponsePage(Page<PostSearchHit> hitPage, List<PostSummary> summaries, String keyword) {
+        Map<Long, PostSummary> summaryById = summaries.stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        Map<Long, List<String>> tagsByPostId = loadTagNames(summaryById.keySet());
+        Map<Long, ReactionCounterService.PendingCounts> pendingByPostId = loadPendingCounts(summaryById.keySet());
+        Pattern pattern = Pattern.compile(Pattern.quote(keyword.trim()), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+        // 검색 이후 삭제된 게시글은 요약이 없으므로 null → 제외
+        List<PostListResponse> content = hitPage.getContent().stream()
+                .filter(hit -> summaryById.containsKey(hit.getId()))
+                .map(hit -> toResponse(summaryById.get(hit.getId()), tagsByPostId, pendingByPostId)
+                        .toBuilder()
+                        .highlight(highlight(hit.getSnippet(), pattern))
+                        .build())
+                .toList();
+
+        return new PageImpl<>(content, hitPage.getPageable(), hitPage.getTotalElements());
+    }
+
+    /**
+     * 게시글별 태그명 일괄 조회
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID → 태그명 목록
+     */
+    public Map<Long, List<String>> loadTagNames(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<String>> tagsByPostId = new HashMap<>(postIds.size() * 2);
+        for (PostTagName row : postTagRepository.findTagNamesByPostIds(postIds)) {
+            tagsByPostId.computeIfAbsent(row.getPostId(), id -> new ArrayList<>()).add(row.getTagName());
+        }
+        return tagsByPostId;
+    }
+
+    private PostListResponse toResponse(PostSummary summary, Map<Long, List<String>> tagsByPostId,
+                                        Map<Long, ReactionCounterService.PendingCounts> pendingByPostId) {
+        PostListResponse response = PostListResponse.from(summary, tagsByPostId.getOrDefault(summary.getId(), List.of()));
+
+        ReactionCounterService.PendingCounts pending = pendingByPostId.get(summary.getId());
+        if (pending == null) {
+            return response;
+        }
+        return response.toBuilder()
+                .likeCount(pending.likeCount(summary.getLikeCount()))
+                .build();
+    }
+
+    /**
+     * 게시글별 반영 대기 중인 반응 증감분 일괄 조회
+     */
+    private Map<Long, ReactionCounterService.PendingCounts> loadPendingCounts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return reactionCounterService.getPending(TargetType.POST, postIds);
+    }
+
+    /**
+     * 발췌문 HTML 이스케이프 후 키워드를 &lt;mark&gt;로 감싸기
+     */
+    private String highlight(String snippet, Pattern pattern) {
+        if (snippet == null || snippet.isBlank()) {
+            return null;
+        }
+
+        StringBuilder result = new StringBuilder(snippet.length() + 32);
+        Matcher matcher = pattern.matcher(snippet);
+        int last = 0;
+        while (matcher.find()) {
+            result.append(HtmlUtils.htmlEscape(snippet.substring(last, matcher.start())))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(matcher.group()))
+                    .append("</mark>");
+            last = matcher.end();
+        }
+        result.append(HtmlUtils.htmlEscape(snippet.substring(last)));
+        return result.toString().strip();
+    }
+}
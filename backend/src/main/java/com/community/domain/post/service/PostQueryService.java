@@ -1,13 +1,20 @@
 package com.community.domain.post.service;
 
+import com.community.core.common.dto.CursorResponse;
+import com.community.core.common.dto.KeysetCursor;
 import com.community.core.common.dto.PageResponse;
 import com.community.core.exception.ErrorCode;
 import com.community.core.exception.custom.NotFoundException;
+import com.community.domain.board.service.BoardRegistry;
 import com.community.domain.post.dto.condition.PostSearchCondition;
+import com.community.domain.post.dto.projection.PostSearchHit;
+import com.community.domain.post.dto.projection.PostSummary;
 import com.community.domain.post.dto.response.PostDetailResponse;
 import com.community.domain.post.dto.response.PostListResponse;
 import com.community.domain.post.entity.Post;
 import com.community.domain.post.repository.PostRepository;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.service.ReactionCounterService;
 import com.community.domain.user.entity.User;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +24,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 조회 서비스 (read 작업)
@@ -31,7 +43,18 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PostQueryService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_NOTICES = 5;
+
     private final PostRepository postRepository;
+    private final ViewCountService viewCountService;
+    private final PostListAssembler postListAssembler;
+    private final NoticeCache noticeCache;
+    private final PostDetailCache postDetailCache;
+    private final BoardRegistry boardRegistry;
+    private final ViewerStateAssembler viewerStateAssembler;
+    private final ReactionCounterService reactionCounterService;
+    private final PostRankingService postRankingService;
 
     /**
      * 게시글 상세 조회
@@ -40,129 +63,219 @@ public class PostQueryService {
      * @param currentUser 사용자
      * @return 게시글 상제 응답
      */
-    @Transactional
     public PostDetailResponse getPostDetail(Long postId, User currentUser) {
+        // 사용자 공통 부분은 캐시 (게시글/댓글/반응 변경 시 버전 증가로 무효화)
+        PostDetailCache.CachedDetail cached = postDetailCache.get(postId, () -> loadDetail(postId));
+
+        //조회수 증가 (Redis 버퍼, DB 반영은 ViewCountService 스케줄러)
+        long pendingViewCount = viewCountService.increment(postId);
+
+        //반응 수 (Redis 카운터에 누적된 미반영 증감분)
+        ReactionCounterService.PendingCounts pendingReactions = reactionCounterService.getPending(TargetType.POST, postId);
+
+        //사용자별 반응/북마크 (비로그인이면 조회 X)
+        ViewerStateAssembler.ViewerState viewerState =
+                viewerStateAssembler.resolve(postId, currentUser != null ? currentUser.getId() : null);
+
+        PostDetailResponse detail = cached.detail();
+        return detail.toBuilder()
+                .viewCount(detail.getViewCount() + (int) pendingViewCount)
+                .likeCount(pendingReactions.likeCount(detail.getLikeCount()))
+                .dislikeCount(pendingReactions.dislikeCount(detail.getDislikeCount()))
+                .myReaction(viewerState.myReaction())
+                .isBookmarked(viewerState.bookmarked())
+                .isAuthor(currentUser != null && currentUser.getId().equals(cached.authorId()))
+                .build();
+    }
+
+    /**
+     * 게시글 상세 DB 조회 (사용자별 필드 제외, 캐시 미스 시)
+     */
+    private PostDetailCache.CachedDetail loadDetail(Long postId) {
         Post post = postRepository.findByIdWithBoardAndUser(postId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.POST_NOT_FOUND));
-        //조회수 증가
-        post.incrementViewCount();
 
         //태그 목록 조회
         List<String> tags = post.getTags().stream()
                 .map(postTag -> postTag.getTag().getName())
                 .toList();
-        //사용자별 좋아요 버튼
-        String myReaction = null;
-
-        //북마크
-        boolean isBookmarked = false;
-
-        PostDetailResponse response = PostDetailResponse.from(post, tags, currentUser, myReaction, isBookmarked);
 
-        return response;
+        PostDetailResponse detail = PostDetailResponse.from(post, tags, null, null, false, 0L);
+        return new PostDetailCache.CachedDetail(post.getUser().getId(), detail);
     }
 
     /**
      * 게시판별 게시글 목록 조회
      * @param slug 게시판 슬러그
      * @param pageable 페이지정보
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
      * @return 게시글 목록 응답(페이징)
      */
-    public PageResponse<PostListResponse> getPostList(String slug, Pageable pageable) {
-        Page<Post> postPage = postRepository.findByBoardSlug(slug, pageable);
+    public PageResponse<PostListResponse> getPostList(String slug, Pageable pageable, Long viewerId) {
+        Long boardId = boardRegistry.getBySlug(slug).getId();
+        Page<PostSummary> summaryPage = postRepository.findSummariesByBoardId(boardId, pageable);
 
-        Page<PostListResponse> responsePage = postPage.map(post -> {
-            List<String> tag = extractTagNames(post);
-            return PostListResponse.from(post, tag);
-        });
+        return PageResponse.of(viewerStateAssembler.apply(postListAssembler.toResponsePage(summaryPage), viewerId));
+    }
 
-        return PageResponse.of(responsePage);
+    /**
+     * 게시판별 게시글 목록 조회 (커서 기반)
+     *
+     * <p>OFFSET 없이 (created_at, id) keyset으로 조회하므로 페이지 깊이와 무관하게 비용이 일정합니다.</p>
+     * @param slug 게시판 슬러그
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param withCount 전체 개수 조회 여부 (false면 카운트 쿼리 생략)
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
+     * @return 게시글 목록 응답(커서)
+     */
+    public CursorResponse<PostListResponse> getPostListByCursor(String slug, String cursor, int size, boolean withCount, Long viewerId) {
+        size = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Long boardId = boardRegistry.getBySlug(slug).getId();
+        List<PostSummary> summaries = postRepository.findSummariesByBoardIdAfter(boardId, KeysetCursor.decode(cursor), size + 1);
+
+        boolean hasNext = summaries.size() > size;
+        List<PostSummary> pageSummaries = hasNext ? summaries.subList(0, size) : summaries;
+
+        List<PostListResponse> content = viewerStateAssembler.apply(postListAssembler.toResponses(pageSummaries), viewerId);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummary last = pageSummaries.get(pageSummaries.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        Long totalElements = withCount ? postRepository.countByBoardId(boardId) : null;
+
+        return CursorResponse.of(content, size, nextCursor, totalElements);
+    }
+
+    /**
+     * 인기 게시글 목록 조회
+     *
+     * <p>Redis 랭킹에서 ID만 가져와 해당 게시글 요약을 한 번에 조회하므로 posts 테이블 정렬이 필요 없습니다.</p>
+     * @param slug 게시판 슬러그 (전체면 null)
+     * @param size 조회 수
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
+     * @return 인기 게시글 목록 (점수순)
+     */
+    public List<PostListResponse> getPopularPosts(String slug, int size, Long viewerId) {
+        Long boardId = slug != null ? boardRegistry.getBySlug(slug).getId() : null;
+        List<Long> postIds = postRankingService.getTopPostIds(boardId, size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 랭킹 순서 유지 (랭킹 반영 후 삭제된 게시글은 제외)
+        Map<Long, PostSummary> summaryById = postRepository.findSummariesByIds(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        List<PostSummary> summaries = postIds.stream()
+                .map(summaryById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return viewerStateAssembler.apply(postListAssembler.toResponses(summaries), viewerId);
     }
 
     /**
      * 게시판별 게시글 목록 조회(공지 포함)
      * @param slug 게시판 슬러그
      * @param pageable 페이지 정보
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
      * @return 게시글 목록 응답(공지글 + 일반글)
      */
-    public PageResponse<PostListResponse> getPostsWithNotices(String slug, Pageable pageable) {
-        List<Post> notices = postRepository.findNoticesByBoardSlug(slug);
+    public PageResponse<PostListResponse> getPostsWithNotices(String slug, Pageable pageable, Long viewerId) {
+        Long boardId = boardRegistry.getBySlug(slug).getId();
 
-        Page<Post> postPage = postRepository.findByBoardSlug(slug, pageable);
+        // 공지글은 게시판별 캐시 (최대 5개, 공지 변경 이벤트로 무효화)
+        List<PostListResponse> notices = noticeCache.get(slug, () ->
+                postListAssembler.toResponses(postRepository.findNoticeSummariesByBoardId(boardId, MAX_NOTICES)));
 
-        List<PostListResponse> noticeResponse = notices.stream()
-                .map(post -> {
-                    List<String> tag = extractTagNames(post);
-                    return PostListResponse.from(post, tag);
-                })
-                .toList();
-
-        Page<PostListResponse> responsePage = postPage.map(post -> {
-            List<String> tag = extractTagNames(post);
-            return PostListResponse.from(post, tag);
-        });
+        Page<PostSummary> postPage = postRepository.findSummariesByBoardId(boardId, pageable);
 
-        List<PostListResponse> allContent = noticeResponse;
-        allContent.addAll(responsePage.getContent());
+        List<PostListResponse> allContent = new ArrayList<>(notices);
+        allContent.addAll(postListAssembler.toResponses(postPage.getContent()));
+        // 캐시된 공지글 포함 사용자별 상태는 조회 시점에 반영
+        allContent = viewerStateAssembler.apply(allContent, viewerId);
 
         return PageResponse.<PostListResponse>builder()
                 .content(allContent)
-                .page(responsePage.getNumber())
-                .size(responsePage.getSize())
-                .totalElements(responsePage.getTotalElements())
-                .totalPages(responsePage.getTotalPages())
-                .hasNext(responsePage.hasNext())
-                .hasPrevious(responsePage.hasPrevious())
+                .page(postPage.getNumber())
+                .size(postPage.getSize())
+                .totalElements(postPage.getTotalElements())
+                .totalPages(postPage.getTotalPages())
+                .hasNext(postPage.hasNext())
+                .hasPrevious(postPage.hasPrevious())
                 .build();
     }
 
     /**
      * 게시글 검색
-     * @param condition 검색 조건(keyword, boardId, tag 등)
+     * @param condition 검색 조건(keyword, boardId, tag, searchMode 등)
      * @param pageable 페이지 정보
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
      * @return 검색 결과
      */
-    public PageResponse<PostListResponse> searchPost(PostSearchCondition condition, Pageable pageable) {
-        // QueryDsl 기반 동적 쿼리 검색
-        Page<Post> postPage = postRepository.searchPosts(condition, pageable);
+    public PageResponse<PostListResponse> searchPost(PostSearchCondition condition, Pageable pageable, Long viewerId) {
+        if (condition.isFullTextSearch()) {
+            // 트라이그램 인덱스 기반 관련도순 검색 → 페이지 범위만 요약 조회
+            Page<PostSearchHit> hitPage = postRepository.searchHits(condition, pageable);
+            List<PostSummary> summaries = postRepository.findSummariesByIds(
+                    hitPage.getContent().stream().map(PostSearchHit::getId).toList());
 
-        Page<PostListResponse> responsesPage = postPage.map(post -> {
-            List<String> tags = extractTagNames(post);
-            return PostListResponse.from(post, tags);
-        });
+            return PageResponse.of(viewerStateAssembler.apply(
+                    postListAssembler.toSearchResponsePage(hitPage, summaries, condition.getKeyword()), viewerId));
+        }
 
-        return PageResponse.of(responsesPage);
+        // QueryDsl 기반 동적 쿼리 검색
+        Page<PostSummary> summaryPage = postRepository.searchPosts(condition, pageable);
+
+        return PageResponse.of(viewerStateAssembler.apply(postListAssembler.toResponsePage(summaryPage), viewerId));
     }
 
+    /**
+     * 게시글 검색 (커서 기반, 최신순)
+     *
+     * <p>태그 페이지처럼 깊게 넘겨보는 검색을 OFFSET 없이 처리합니다.</p>
+     * @param condition 검색 조건(keyword, boardId, tags, tagMatch)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
+     * @return 검색 결과(커서)
+     */
+    public CursorResponse<PostListResponse> searchPostByCursor(PostSearchCondition condition, String cursor, int size, Long viewerId) {
+        size = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        List<PostSummary> summaries = postRepository.searchPostsAfter(condition, KeysetCursor.decode(cursor), size + 1);
+
+        boolean hasNext = summaries.size() > size;
+        List<PostSummary> pageSummaries = hasNext ? summaries.subList(0, size) : summaries;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummary last = pageSummaries.get(pageSummaries.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<PostListResponse> content = viewerStateAssembler.apply(postListAssembler.toResponses(pageSummaries), viewerId);
+        return CursorResponse.of(content, size, nextCursor, null);
+    }
 
     /**
      * 사용자가 작성한 게시글 목록 조회
      *
      * @param userId   사용자 ID
      * @param pageable 페이지 정보
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
      * @return 게시글 목록 응답
      */
-    public PageResponse<PostListResponse> getPostsByUser(Long userId, Pageable pageable) {
+    public PageResponse<PostListResponse> getPostsByUser(Long userId, Pageable pageable, Long viewerId) {
         // 1. 사용자별 게시글 조회 (최신순)
-        Page<Post> postPage = postRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Page<PostSummary> summaryPage = postRepository.findSummariesByUserId(userId, pageable);
 
-        // 2. Post -> PostListResponse 변환 (Page.map 사용)
-        Page<PostListResponse> responsePage = postPage.map(post -> {
-            List<String> tags = extractTagNames(post);
-            return PostListResponse.from(post, tags);
-        });
+        // 2. PostSummary -> PostListResponse 변환 (태그는 페이지 단위 일괄 조회)
+        Page<PostListResponse> responsePage = viewerStateAssembler.apply(postListAssembler.toResponsePage(summaryPage), viewerId);
 
         // 3. PageResponse 생성
         return PageResponse.of(responsePage);
     }
 
-    /**
-     * 태그명 추출 (private helper)
-     */
-    private List<String> extractTagNames(Post post) {
-        return post.getTags().stream()
-                .map(postTag -> postTag.getTag().getName())
-                .toList();
-    }
-
 }
@@ -0,0 +1,364 @@
+package com.community.domain.post.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.board.service.BoardMeta;
+import com.community.domain.board.service.BoardRegistry;
+import com.community.domain.post.dto.projection.PostRankingMeta;
+import com.community.domain.post.repository.PostRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 게시글 랭킹 서비스 (Redis Sorted Set)
+ *
+ * <p>Reddit "hot" 방식으로 점수를 계산합니다: {@code sign(E) * log10(max(|E|, 1)) + (작성 시각 - 기준 시각) / 45000}</p>
+ * <p>E는 조회/반응/댓글 가중치 합이며, 시간 항이 12.5시간마다 1씩 커지므로 최신 게시글이 같은 반응으로 10배 오래된 게시글과 같은 점수를 받습니다.
+ * 점수가 현재 시각에 의존하지 않으므로 이벤트마다 해당 게시글 점수만 다시 계산하면 되고, 전체 재계산이 필요 없습니다.</p>
+ * <p>게시판 ID와 작성 시각은 게시글 작성 커밋 이후 Redis에 등록해 두므로 신호 반영에 DB 조회가 없습니다.
+ * 등록되지 않은 게시글은 집계 기간이 지난 것으로 보고 건너뜁니다. 랭킹이 비어 있으면(배포 직후, Redis 초기화 후)
+ * 기동 시 DB의 조회/반응/댓글 수로 채웁니다.</p>
+ *
+ * <pre>
+ * ranking:post:engagement      (Hash) postId → 가중치 합
+ * ranking:post:board           (Hash) postId → 게시판 ID
+ * ranking:post:created         (ZSet) postId → 작성 시각 (epoch 초, 기간 지난 게시글 정리용)
+ * ranking:post:hot:all         (ZSet) postId → 점수 (전체)
+ * ranking:post:hot:board:{id}  (ZSet) postId → 점수 (게시판별)
+ * </pre>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    /**
+     * 점수 기준 시각 (2025-01-01T00:00:00Z)
+     */
+    private static final long EPOCH_SECONDS = 1735689600L;
+    private static final double DECAY_SECONDS = 45000d;
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * 가중치 누적 + 점수 갱신 (여러 게시글을 호출 한 번에, 원자적)
+     * KEYS: engagement, created, all, 게시글별 board / ARGV: 게시글마다 postId, delta, createdAt(epoch 초), 시간 항
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local recorded = 0
+            for i = 1, #ARGV, 4 do
+                local engagement = tonumber(redis.call('HINCRBYFLOAT', KEYS[1], ARGV[i], ARGV[i + 1]))
+                local sign = 0
+                if engagement > 0 then sign = 1 elseif engagement < 0 then sign = -1 end
+                local score = sign * math.log10(math.max(math.abs(engagement), 1)) + tonumber(ARGV[i + 3])
+                recorded = recorded + 1
+                redis.call('ZADD', KEYS[2], ARGV[i + 2], ARGV[i])
+                redis.call('ZADD', KEYS[3], score, ARGV[i])
+                redis.call('ZADD', KEYS[3 + recorded], score, ARGV[i])
+            end
+            return recorded
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final PostRepository postRepository;
+    private final BoardRegistry boardRegistry;
+
+    /**
+     * 랭킹 신호별 가중치
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Signal {
+        VIEW(1),
+        LIKE(10),
+        DISLIKE(-5),
+        COMMENT(5);
+
+        private final double weight;
+    }
+
+    /**
+     * 신호 반영 (게시글별 횟수)
+     *
+     * <p>조회수/반응 수 버퍼 flush 처럼 여러 게시글을 모아서 반영합니다. 집계 기간이 지난 게시글은 건너뜁니다.</p>
+     *
+     * @param signal  신호 종류
+     * @param counts  게시글 ID → 횟수 (음수면 취소)
+     */
+    public void record(Signal signal, Map<Long, Long> counts) {
+        List<Long> postIds = counts.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        long cutoff = cutoffEpochSeconds();
+        try {
+            // 1. 게시판 ID / 작성 시각 (Redis, 파이프라인 1회)
+            byte[] boardMapKey = bytes(boardMapKey());
+            byte[] createdKey = bytes(createdKey());
+            List<Object> metas = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long postId : postIds) {
+                    byte[] member = bytes(String.valueOf(postId));
+                    connection.hashCommands().hGet(boardMapKey, member);
+                    connection.zSetCommands().zScore(createdKey, member);
+                }
+                return null;
+            });
+
+            // 2. 점수 갱신 (스크립트 호출 1회, EVALSHA)
+            List<String> keys = new ArrayList<>();
+            keys.add(engagementKey());
+            keys.add(createdKey());
+            keys.add(allKey());
+            List<String> args = new ArrayList<>();
+            for (int i = 0; i < postIds.size(); i++) {
+                Object boardId = metas.get(i * 2);
+                Object createdAt = metas.get(i * 2 + 1);
+                if (boardId == null || createdAt == null || ((Number) createdAt).longValue() < cutoff) {
+                    continue;
+                }
+                long created = ((Number) createdAt).longValue();
+                Long postId = postIds.get(i);
+                keys.add(boardKey(Long.valueOf(boardId.toString())));
+                args.add(String.valueOf(postId));
+                args.add(String.valueOf(signal.getWeight() * counts.get(postId)));
+                args.add(String.valueOf(created));
+                args.add(String.valueOf(timeTerm(created)));
+            }
+            Long recorded = args.isEmpty() ? 0L : redisTemplate.execute(RECORD_SCRIPT, keys, args.toArray());
+            log.debug("[POST_RANKING] 랭킹 반영: signal={}, posts={}, recorded={}", signal, postIds.size(), recorded);
+        } catch (DataAccessException e) {
+            log.warn("[POST_RANKING] 랭킹 반영 실패: signal={}, posts={}, message={}", signal, counts.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 작성된 게시글 등록 (게시판 ID, 작성 시각)
+     *
+     * <p>점수는 신호가 들어올 때 매기므로 반응 없는 새 글이 랭킹에 바로 오르지는 않습니다.</p>
+     *
+     * @param postId    게시글 ID
+     * @param boardId   게시판 ID
+     * @param createdAt 작성 시각
+     */
+    public void register(Long postId, Long boardId, LocalDateTime createdAt) {
+        String member = String.valueOf(postId);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hSet(bytes(boardMapKey()), bytes(member), bytes(String.valueOf(boardId)));
+                connection.zSetCommands().zAdd(bytes(createdKey()), epochSeconds(createdAt), bytes(member));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[POST_RANKING] 게시글 등록 실패: postId={}, message={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 비어 있는 랭킹 DB로 채우기 (최초 기동, Redis 초기화 후)
+     *
+     * <p>집계 기간 안의 게시글을 등록하고, DB에 반영된 조회/반응/댓글 수로 가중치 합과 점수를 계산합니다.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(createdKey()))) {
+                return;
+            }
+
+            LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochSecond(cutoffEpochSeconds()), ZoneId.systemDefault());
+            List<PostRankingMeta> metas = postRepository.findRankingMetaSince(since);
+            if (metas.isEmpty()) {
+                return;
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PostRankingMeta meta : metas) {
+                    byte[] member = bytes(String.valueOf(meta.getId()));
+                    long created = epochSeconds(meta.getCreatedAt());
+                    double engagement = Signal.VIEW.getWeight() * meta.getViewCount()
+                            + Signal.LIKE.getWeight() * meta.getLikeCount()
+                            + Signal.DISLIKE.getWeight() * meta.getDislikeCount()
+                            + Signal.COMMENT.getWeight() * meta.getCommentCount();
+
+                    connection.hashCommands().hSet(bytes(boardMapKey()), member, bytes(String.valueOf(meta.getBoardId())));
+                    connection.zSetCommands().zAdd(bytes(createdKey()), created, member);
+                    if (engagement != 0) {
+                        double score = Math.signum(engagement) * Math.log10(Math.max(Math.abs(engagement), 1)) + timeTerm(created);
+                        connection.hashCommands().hSet(bytes(engagementKey()), member, bytes(String.valueOf(engagement)));
+                        connection.zSetCommands().zAdd(bytes(boardKey(meta.getBoardId())), score, member);
+                        connection.zSetCommands().zAdd(bytes(allKey()), score, member);
+                    }
+                }
+                return null;
+            });
+            log.info("[POST_RANKING] 인기 게시글 랭킹 적재: posts={}", metas.size());
+        } catch (DataAccessException e) {
+            log.warn("[POST_RANKING] 인기 게시글 랭킹 적재 실패: message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 신호 반영 (트랜잭션 커밋 후)
+     *
+     * @param signal 신호 종류
+     * @param postId 게시글 ID
+     * @param count  횟수 (음수면 취소)
+     */
+    public void recordAfterCommit(Signal signal, Long postId, long count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(signal, Map.of(postId, count));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(signal, Map.of(postId, count));
+            }
+        });
+    }
+
+    /**
+     * 인기 게시글 ID 조회 (점수 내림차순)
+     *
+     * @param boardId 게시판 ID (전체면 null)
+     * @param size    조회 수
+     * @return 게시글 ID 목록 (Redis 장애 시 빈 목록)
+     */
+    public List<Long> getTopPostIds(Long boardId, int size) {
+        size = Math.min(Math.max(size, 1), MAX_SIZE);
+        String key = boardId != null ? boardKey(boardId) : allKey();
+
+        try {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, size - 1);
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream().map(Long::valueOf).toList();
+        } catch (DataAccessException e) {
+            log.warn("[POST_RANKING] 랭킹 조회 실패: boardId={}, message={}", boardId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 랭킹에서 제거 (게시글 삭제 시)
+     *
+     * @param postId  게시글 ID
+     * @param boardId 게시판 ID
+     */
+    public void remove(Long postId, Long boardId) {
+        String member = String.valueOf(postId);
+        try {
+            redisTemplate.opsForZSet().remove(boardKey(boardId), member);
+            redisTemplate.opsForZSet().remove(allKey(), member);
+            redisTemplate.opsForZSet().remove(createdKey(), member);
+            redisTemplate.opsForHash().delete(engagementKey(), member);
+            redisTemplate.opsForHash().delete(boardMapKey(), member);
+        } catch (DataAccessException e) {
+            log.warn("[POST_RANKING] 랭킹 제거 실패: postId={}, message={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 랭킹 정리 (집계 기간이 지난 게시글 제거 + 최대 보관 수 유지)
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.prune-delay-ms:600000}")
+    public void prune() {
+        try {
+            List<String> rankingKeys = new ArrayList<>();
+            rankingKeys.add(allKey());
+            for (BoardMeta board : boardRegistry.getAll()) {
+                rankingKeys.add(boardKey(board.getId()));
+            }
+
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(createdKey(), Double.NEGATIVE_INFINITY, cutoffEpochSeconds());
+            byte[][] members = expired == null ? new byte[0][] : expired.stream()
+                    .map(PostRankingService::bytes)
+                    .toArray(byte[][]::new);
+            long keep = appProperties.getRanking().getMaxSize();
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : rankingKeys) {
+                    byte[] rawKey = bytes(key);
+                    if (members.length > 0) {
+                        connection.zSetCommands().zRem(rawKey, members);
+                    }
+                    connection.zSetCommands().zRemRange(rawKey, 0, -(keep + 1));
+                }
+                if (members.length > 0) {
+                    connection.zSetCommands().zRem(bytes(createdKey()), members);
+                    connection.hashCommands().hDel(bytes(engagementKey()), members);
+                    connection.hashCommands().hDel(bytes(boardMapKey()), members);
+                }
+                return null;
+            });
+
+            log.info("[POST_RANKING] 랭킹 정리 완료: expired={}, rankings={}", members.length, rankingKeys.size());
+        } catch (DataAccessException e) {
+            log.warn("[POST_RANKING] 랭킹 정리 실패: message={}", e.getMessage());
+        }
+    }
+
+    private long cutoffEpochSeconds() {
+        return Instant.now().getEpochSecond() - appProperties.getRanking().getWindowDays() * 86400L;
+    }
+
+    private static long epochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static double timeTerm(long createdAtEpochSeconds) {
+        return (createdAtEpochSeconds - EPOCH_SECONDS) / DECAY_SECONDS;
+    }
+
+    private String engagementKey() {
+        return redisKeyProperties.getRanking() + "post:engagement";
+    }
+
+    private String boardMapKey() {
+        return redisKeyProperties.getRanking() + "post:board";
+    }
+
+    private String createdKey() {
+        return redisKeyProperties.getRanking() + "post:created";
+    }
+
+    private String allKey() {
+        return redisKeyProperties.getRanking() + "post:hot:all";
+    }
+
+    private String boardKey(Long boardId) {
+        return redisKeyProperties.getRanking() + "post:hot:board:" + boardId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
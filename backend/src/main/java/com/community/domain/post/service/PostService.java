@@ -3,17 +3,18 @@ package com.community.domain.post.service;
 import com.community.core.exception.ErrorCode;
 import com.community.core.exception.custom.ForbiddenException;
 import com.community.core.exception.custom.NotFoundException;
-import com.community.domain.board.entity.Board;
 import com.community.domain.board.repository.BoardRepository;
+import com.community.domain.board.service.BoardMeta;
+import com.community.domain.board.service.BoardRegistry;
 import com.community.domain.post.dto.request.PostCreateRequest;
 import com.community.domain.post.dto.request.PostUpdateRequest;
 import com.community.domain.post.entity.Post;
-import com.community.domain.post.entity.PostTag;
+import com.community.domain.post.event.PostChangedEvent;
 import com.community.domain.post.repository.PostRepository;
+import com.community.domain.post.repository.PostTagRepository;
 import com.community.domain.post.service.strategy.PostStrategy;
 import com.community.domain.post.service.strategy.PostStrategyFactory;
-import com.community.domain.tag.entity.Tag;
-import com.community.domain.tag.repository.TagRepository;
+import com.community.domain.tag.service.TagService;
 import com.community.domain.user.entity.User;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +23,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,25 +35,27 @@ import java.util.stream.Collectors;
 public class PostService {
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
-    private final TagRepository tagRepository;
+    private final BoardRegistry boardRegistry;
+    private final PostTagRepository postTagRepository;
+    private final TagService tagService;
     private final PostStrategyFactory strategyFactory;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 생성
      */
+    @Transactional
     public Long createPost(String slug, PostCreateRequest request, User user){
-        //게시판 조회
-        Board board = boardRepository.findBySlug(slug)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.BOARD_NOT_FOUND));
+        //게시판 조회 (레지스트리 스냅샷, DB 조회 X)
+        BoardMeta boardMeta = boardRegistry.getBySlug(slug);
 
         //글쓰기 권한 확인
-        if (board.isWriteRequiresLogin() && user == null) {
+        if (boardMeta.isWriteRequiresLogin() && user == null) {
             throw new ForbiddenException("로그인 후 이용 가능합니다");
         }
 
         // 타입별 전략 선택 및 검증
-        PostStrategy strategy = strategyFactory.getStrategy(board.getBoardType());
+        PostStrategy strategy = strategyFactory.getStrategy(boardMeta.getBoardType());
         strategy.validateCreate(request);
 
         // Post 엔티티 생성
@@ -58,7 +63,7 @@ public class PostService {
                 .title(request.getTitle())
                 .content(request.getContent())
                 .user(user)
-                .board(board)
+                .board(boardRepository.getReferenceById(boardMeta.getId()))
                 .isAnonymous(request.isAnonymous())
                 .build();
 
@@ -73,11 +78,15 @@ public class PostService {
 
         //태크처리
         if (request.getTags() != null && !request.getTags().isEmpty()){
-            processTags(post, request.getTags());
+            List<Long> tagIds = tagService.resolveIds(request.getTags());
+            postTagRepository.insertAll(post.getId(), tagIds.toArray(Long[]::new));
+            tagService.adjustUsageCount(tagIds, 1, post.getCreatedAt());
         }
 
+        eventPublisher.publishEvent(changedEvent(post, PostChangedEvent.ChangeType.CREATED));
+
         log.info("게시글 생성 완료: postId={}, boardId={}, userId={}",
-                post.getId(), board.getId(), user.getId());
+                post.getId(), boardMeta.getId(), user.getId());
 
         return post.getId();
     }
@@ -85,6 +94,7 @@ public class PostService {
     /**
      * 게시글 수정
      */
+    @Transactional
     public void updatePost(Long postId, PostUpdateRequest request, User user) {
         //게시글 조회
         Post post = postRepository.findById(postId)
@@ -96,7 +106,7 @@ public class PostService {
         }
 
         // 타입별 전략 선택 및 검증
-        PostStrategy strategy = strategyFactory.getStrategy(post.getBoard().getBoardType());
+        PostStrategy strategy = strategyFactory.getStrategy(boardRegistry.getById(post.getBoard().getId()).getBoardType());
         strategy.validateUpdate(request);
 
         // 전략별 전처리
@@ -110,18 +120,18 @@ public class PostService {
 
         // 태그 재설정 (기존 태그 삭제 후 새로 추가)
         if (request.getTags() != null) {
-            post.getTags().clear();
-            if (!request.getTags().isEmpty()) {
-                processTags(post, request.getTags());
-            }
+            replaceTags(post, request.getTags());
         }
 
+        eventPublisher.publishEvent(changedEvent(post, PostChangedEvent.ChangeType.UPDATED));
+
         log.info("게시글 수정 완료: postId={}, userId={}", postId, user.getId());
     }
 
     /**
      * 게시글 삭제
      */
+    @Transactional
     public void deletePost(Long postId, User user) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.POST_NOT_FOUND, postId));
@@ -132,12 +142,18 @@ public class PostService {
 
         post.delete();
 
+        // 삭제된 게시글의 태그 사용 횟수 차감 (연결은 복구 대비 유지)
+        tagService.adjustUsageCount(postTagRepository.findTagIdsByPostId(postId), -1, post.getCreatedAt());
+
+        eventPublisher.publishEvent(changedEvent(post, PostChangedEvent.ChangeType.DELETED));
+
         log.info("게시글 삭제 완료: postId={}, userId={}", postId, user.getId());
     }
 
     /**
      * 공지글 토글 (관리자 전용)
      */
+    @Transactional
     public void toggleNotice(Long postId, User user) {
         // 관리자 권한 확인
         if (!user.isAdmin()) {
@@ -151,25 +167,40 @@ public class PostService {
         //공지 토글
         post.toggleNotice();
 
+        eventPublisher.publishEvent(changedEvent(post, PostChangedEvent.ChangeType.NOTICE_TOGGLED));
+
         log.info("공지글 토글 완료: postId={}, isNotice={}, userId={}",
                 postId, post.isNotice(), user.getId());
     }
 
 
-    private void processTags(Post post,List<String> tagName) {
-        List<Tag> tags = tagName.stream()
-                .distinct()
-                .map(name -> tagRepository.findByName(name).orElseGet( () -> {
-                    Tag newTag = Tag.create(name);
-                    tagRepository.save(newTag);
-                    return newTag;
-                })).toList();
+    /**
+     * 게시글 변경 이벤트 생성 (커밋 이후 캐시 무효화용)
+     */
+    private PostChangedEvent changedEvent(Post post, PostChangedEvent.ChangeType changeType) {
+        // 프록시의 ID만 사용하고 slug는 레지스트리에서 조회 (boards 로딩 X)
+        BoardMeta board = boardRegistry.getById(post.getBoard().getId());
+        return new PostChangedEvent(post.getId(), board.getId(), board.getSlug(), changeType, post.isNotice());
+    }
 
-        tags.forEach(tag -> {
-            PostTag posttag = PostTag.of(post, tag);
-            post.addTag(posttag);
-            tag.incrementUsageCount();
-        });
+    /**
+     * 태그 재설정 (사용 횟수는 빠진 태그 -1, 추가된 태그 +1)
+     *
+     * <p>인기 태그 일별 집계는 증감 모두 게시글 작성일 기준이어야 재적재(seed) 결과와 일치합니다.</p>
+     */
+    private void replaceTags(Post post, List<String> tagNames) {
+        Long postId = post.getId();
+        List<Long> oldTagIds = postTagRepository.findTagIdsByPostId(postId);
+        List<Long> newTagIds = tagNames.isEmpty() ? List.of() : tagService.resolveIds(tagNames);
+
+        postTagRepository.deleteByPostId(postId);
+        if (!newTagIds.isEmpty()) {
+            postTagRepository.insertAll(postId, newTagIds.toArray(Long[]::new));
+        }
 
+        Set<Long> oldSet = new HashSet<>(oldTagIds);
+        Set<Long> newSet = new HashSet<>(newTagIds);
+        tagService.adjustUsageCount(oldTagIds.stream().filter(id -> !newSet.contains(id)).toList(), -1, post.getCreatedAt());
+        tagService.adjustUsageCount(newTagIds.stream().filter(id -> !oldSet.contains(id)).toList(), 1, post.getCreatedAt());
     }
 }
@@ -0,0 +1,85 @@
+package com.community.domain.post.service;
+
+import com.community.core.redis.RedisCounterBuffer;
+import com.community.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 조회수 서비스 (write-behind)
+ *
+ * <p>조회 시 DB 대신 Redis 버퍼에 조회수를 누적하고, 주기적으로 DB에 일괄 반영합니다.</p>
+ * <p>게시글 상세 조회가 row UPDATE 없이 읽기 전용 트랜잭션으로 동작하도록 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String BUFFER = "post_view";
+
+    private final RedisCounterBuffer counterBuffer;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final PostRankingService postRankingService;
+
+    /**
+     * 조회수 증가
+     *
+     * <p>Redis 장애 시 조회 자체는 실패하지 않도록 카운트를 건너뜁니다.</p>
+     *
+     * @param postId 게시글 ID
+     * @return 아직 DB에 반영되지 않은 조회수 (이번 조회 포함)
+     */
+    public long increment(Long postId) {
+        try {
+            return counterBuffer.increment(BUFFER, String.valueOf(postId), 1);
+        } catch (DataAccessException e) {
+            log.warn("[VIEW_COUNT] 조회수 누적 실패: postId={}, message={}", postId, e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 누적된 조회수 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${app.post.view-count-flush-delay-ms:30000}")
+    public void flush() {
+        try {
+            counterBuffer.drain(BUFFER, this::apply);
+        } catch (DataAccessException e) {
+            log.warn("[VIEW_COUNT] 조회수 반영 실패 (다음 주기에 재시도): message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 증감분 DB 반영 (게시글 수와 관계없이 UPDATE 한 번)
+     */
+    private void apply(Map<String, Long> deltas) {
+        Long[] postIds = new Long[deltas.size()];
+        Long[] counts = new Long[deltas.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            postIds[i] = Long.valueOf(entry.getKey());
+            counts[i++] = entry.getValue();
+        }
+        transactionTemplate.executeWithoutResult(status -> postRepository.incrementViewCounts(postIds, counts));
+
+        // 캐시된 상세의 조회수(DB 값)가 바뀌었으므로 버전 증가
+        postDetailCache.bumpAll(deltas.keySet().stream().map(Long::valueOf).toList());
+
+        // 인기 게시글 점수에 반영 (flush 단위로 모아서)
+        postRankingService.record(PostRankingService.Signal.VIEW, deltas.entrySet().stream()
+                .collect(Collectors.toMap(entry -> Long.valueOf(entry.getKey()), Map.Entry::getValue)));
+
+        log.info("[VIEW_COUNT] 조회수 반영 완료: posts={}", deltas.size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.community.domain.post.service;
+
+import com.community.domain.bookmark.service.BookmarkService;
+import com.community.domain.post.dto.response.PostListResponse;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.service.ReactionQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 상태(myReaction, isBookmarked) 조립기
+ *
+ * <p>게시글 목록 한 페이지당 반응 1회, 북마크 1회만 조회해 응답에 덮어씁니다.</p>
+ * <p>비로그인 사용자는 조회 없이 그대로 반환합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewerStateAssembler {
+
+    private final ReactionQueryService reactionQueryService;
+    private final BookmarkService bookmarkService;
+
+    /**
+     * 게시글 목록에 사용자별 상태 반영
+     *
+     * @param responses 게시글 목록 응답 (캐시된 목록 포함)
+     * @param viewerId  조회 사용자 ID (비로그인이면 null)
+     * @return 사용자별 상태가 반영된 목록
+     */
+    public List<PostListResponse> apply(List<PostListResponse> responses, Long viewerId) {
+        if (viewerId == null || responses.isEmpty()) {
+            return responses;
+        }
+
+        List<Long> postIds = responses.stream().map(PostListResponse::getId).toList();
+        Map<Long, ReactionType> reactions = reactionQueryService.findMyReactions(viewerId, TargetType.POST, postIds);
+        Set<Long> bookmarkedIds = bookmarkService.findBookmarkedPostIds(viewerId, postIds);
+
+        if (reactions.isEmpty() && bookmarkedIds.isEmpty()) {
+            return responses;
+        }
+
+        return responses.stream()
+                .map(response -> {
+                    ReactionType reaction = reactions.get(response.getId());
+                    boolean bookmarked = bookmarkedIds.contains(response.getId());
+                    if (reaction == null && !bookmarked) {
+                        return response;
+                    }
+                    return response.toBuilder()
+                            .myReaction(reaction != null ? reaction.name() : null)
+                            .isBookmarked(bookmarked)
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 게시글 페이지에 사용자별 상태 반영
+     *
+     * @param page     게시글 목록 응답 페이지
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
+     * @return 사용자별 상태가 반영된 페이지
+     */
+    public Page<PostListResponse> apply(Page<PostListResponse> page, Long viewerId) {
+        if (viewerId == null || page.isEmpty()) {
+            return page;
+        }
+        return new PageImpl<>(apply(page.getContent(), viewerId), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * 단건 게시글의 사용자별 상태
+     *
+     * @param postId   게시글 ID
+     * @param viewerId 조회 사용자 ID (비로그인이면 null)
+     * @return 사용자별 상태
+     */
+    public ViewerState resolve(Long postId, Long viewerId) {
+        if (viewerId == null) {
+            return ViewerState.NONE;
+        }
+
+        ReactionType reaction = reactionQueryService.findMyReactions(viewerId, TargetType.POST, List.of(postId)).get(postId);
+        boolean bookmarked = bookmarkService.findBookmarkedPostIds(viewerId, List.of(postId)).contains(postId);
+        return new ViewerState(reaction != null ? reaction.name() : null, bookmarked);
+    }
+
+    /**
+     * 사용자별 상태
+     *
+     * @param myReaction 내 반응 (LIKE, DISLIKE, null)
+     * @param bookmarked 북마크 여부
+     */
+    public record ViewerState(String myReaction, boolean bookmarked) {
+        static final ViewerState NONE = new ViewerState(null, false);
+    }
+}
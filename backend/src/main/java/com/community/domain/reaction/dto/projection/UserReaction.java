@@ -0,0 +1,15 @@
+package com.community.domain.reaction.dto.projection;
+
+import com.community.domain.reaction.entity.ReactionType;
+
+/**
+ * 대상 ID - 반응 타입 프로젝션
+ *
+ * <p>사용자의 반응 목록을 엔티티 없이 조회해 반응 캐시를 채울 때 사용합니다.</p>
+ */
+public interface UserReaction {
+
+    Long getTargetId();
+
+    ReactionType getReactionType();
+}
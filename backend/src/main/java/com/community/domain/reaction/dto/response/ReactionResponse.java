@@ -1,6 +1,5 @@
 package com.community.domain.reaction.dto.response;
 
-import com.community.domain.reaction.entity.Reactable;
 import com.community.domain.reaction.entity.ReactionType;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,10 +12,10 @@ public class ReactionResponse {
     private int dislikeCount;
     private String myReaction;
 
-    public static ReactionResponse of(Reactable target, ReactionType myReaction) {
+    public static ReactionResponse of(int likeCount, int dislikeCount, ReactionType myReaction) {
         return ReactionResponse.builder()
-                .likeCount(target.getLikeCount())
-                .dislikeCount(target.getDislikeCount())
+                .likeCount(likeCount)
+                .dislikeCount(dislikeCount)
                 .myReaction(myReaction != null ? myReaction.name() : null)
                 .build();
     }
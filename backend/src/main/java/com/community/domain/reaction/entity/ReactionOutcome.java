@@ -0,0 +1,43 @@
+package com.community.domain.reaction.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 반응 토글 결과
+ *
+ * <p>반응 upsert 쿼리가 반환하는 상태 전이입니다. 같은 타입이면 취소, 다른 타입이면 변경됩니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReactionOutcome {
+    CREATED("생성"),
+    CHANGED("변경"),
+    CANCELLED("취소"),
+    UNCHANGED("변경 없음");
+
+    private final String description;
+
+    /**
+     * 반응 수 증감분
+     *
+     * @param requested 요청한 반응 타입
+     * @param counted   증감분을 구할 반응 타입
+     * @return counted 타입의 반응 수 증감분
+     */
+    public int delta(ReactionType requested, ReactionType counted) {
+        return switch (this) {
+            case CREATED -> requested == counted ? 1 : 0;
+            case CANCELLED -> requested == counted ? -1 : 0;
+            case CHANGED -> requested == counted ? 1 : -1;
+            case UNCHANGED -> 0;
+        };
+    }
+
+    /**
+     * 처리 후 사용자의 반응
+     */
+    public ReactionType resultOf(ReactionType requested) {
+        return this == CANCELLED ? null : requested;
+    }
+}
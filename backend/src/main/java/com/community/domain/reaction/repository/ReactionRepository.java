@@ -1,12 +1,15 @@
 package com.community.domain.reaction.repository;
 
+import com.community.domain.reaction.dto.projection.UserReaction;
 import com.community.domain.reaction.entity.Reaction;
 import com.community.domain.reaction.entity.ReactionType;
 import com.community.domain.reaction.entity.TargetType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -77,6 +80,22 @@ public interface ReactionRepository extends JpaRepository<Reaction, Long> {
             @Param("targetIds") List<Long> targetIds
     );
 
+    /**
+     * 사용자의 대상 타입별 반응 목록 조회 (반응 캐시 적재용)
+     *
+     * @param userId     사용자
+     * @param targetType 타입
+     * @param limit      최대 조회 수
+     * @return 대상 ID - 반응 타입 목록
+     */
+    @Query("SELECT r.targetId AS targetId, r.reactionType AS reactionType FROM Reaction r " +
+            "WHERE r.user.id = :userId AND r.targetType = :targetType")
+    List<UserReaction> findUserReactions(
+            @Param("userId") Long userId,
+            @Param("targetType") TargetType targetType,
+            Limit limit
+    );
+
     /**
      * 반응 존재 여부 확인
      *
@@ -95,7 +114,55 @@ public interface ReactionRepository extends JpaRepository<Reaction, Long> {
      * @param targetId   ID
      */
     void deleteByUserIdAndTargetTypeAndTargetId(Long userId, TargetType targetType, Long targetId);
-}
-
-
 
+    /**
+     * 반응 토글 (단일 쿼리)
+     *
+     * <p>기존 반응을 잠근 뒤, 같은 타입이면 삭제하고 없거나 다른 타입이면
+     * {@code uk_reactions_user_target} 제약에 대해 INSERT ... ON CONFLICT 로 생성/변경합니다.</p>
+     * <p>ON CONFLICT 로 갱신된 경우(동시 생성 포함)는 {@code xmax <> 0} 으로 구분합니다.</p>
+     *
+     * @param userId       사용자 ID
+     * @param targetType   대상 타입 ({@link TargetType#name()})
+     * @param targetId     대상 ID
+     * @param reactionType 요청한 반응 타입 ({@link ReactionType#name()})
+     * @param now          생성/수정 시각
+     * @return {@link com.community.domain.reaction.entity.ReactionOutcome} 이름
+     */
+    @Query(value = """
+            WITH existing AS (
+                SELECT id, reaction_type
+                FROM reactions
+                WHERE user_id = :userId AND target_type = :targetType AND target_id = :targetId
+                FOR UPDATE
+            ),
+            cancelled AS (
+                DELETE FROM reactions r
+                USING existing e
+                WHERE r.id = e.id AND e.reaction_type = :reactionType
+                RETURNING r.id
+            ),
+            upserted AS (
+                INSERT INTO reactions (user_id, target_type, target_id, reaction_type, created_at, updated_at)
+                SELECT :userId, :targetType, :targetId, :reactionType, :now, :now
+                WHERE NOT EXISTS (SELECT 1 FROM existing WHERE reaction_type = :reactionType)
+                ON CONFLICT ON CONSTRAINT uk_reactions_user_target
+                DO UPDATE SET reaction_type = EXCLUDED.reaction_type, updated_at = EXCLUDED.updated_at
+                WHERE reactions.reaction_type <> EXCLUDED.reaction_type
+                RETURNING (xmax = 0) AS inserted
+            )
+            SELECT CASE
+                WHEN EXISTS (SELECT 1 FROM cancelled) THEN 'CANCELLED'
+                WHEN (SELECT inserted FROM upserted) THEN 'CREATED'
+                WHEN EXISTS (SELECT 1 FROM upserted) THEN 'CHANGED'
+                ELSE 'UNCHANGED'
+            END
+            """, nativeQuery = true)
+    String toggle(
+            @Param("userId") Long userId,
+            @Param("targetType") String targetType,
+            @Param("targetId") Long targetId,
+            @Param("reactionType") String reactionType,
+            @Param("now") LocalDateTime now
+    );
+}
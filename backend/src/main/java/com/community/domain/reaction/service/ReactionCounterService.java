@@ -0,0 +1,225 @@
+package com.community.domain.reaction.service;
+
+import com.community.core.redis.RedisCounterBuffer;
+import com.community.domain.comment.repository.CommentRepository;
+import com.community.domain.post.repository.PostRepository;
+import com.community.domain.post.service.PostDetailCache;
+import com.community.domain.post.service.PostRankingService;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 반응 카운터 서비스 (write-behind)
+ *
+ * <p>좋아요/싫어요 수를 게시글·댓글 row 대신 Redis 샤드 카운터에 누적하고, 주기적으로 DB에 일괄 반영합니다.</p>
+ * <p>인기 게시글에 반응이 몰려도 같은 row에 대한 UPDATE 경합(게시글 row lock, 댓글 @Version 충돌)이 생기지 않습니다.</p>
+ * <p>조회 응답은 DB 값에 아직 반영되지 않은 증감분을 더해 보여줍니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactionCounterService {
+
+    private final RedisCounterBuffer counterBuffer;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final PostRankingService postRankingService;
+
+    /**
+     * 반영 대기 중인 반응 증감분
+     */
+    public record PendingCounts(long like, long dislike) {
+
+        public static final PendingCounts ZERO = new PendingCounts(0, 0);
+
+        public int likeCount(int base) {
+            return (int) Math.max(0, base + like);
+        }
+
+        public int dislikeCount(int base) {
+            return (int) Math.max(0, base + dislike);
+        }
+    }
+
+    /**
+     * 반응 증감 (트랜잭션 커밋 후 누적)
+     *
+     * <p>반응 row 저장이 롤백되면 카운터도 움직이지 않도록 커밋 이후에 누적합니다.</p>
+     *
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @param type       반응 타입
+     * @param delta      증감분
+     */
+    public void incrementAfterCommit(TargetType targetType, Long targetId, ReactionType type, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(targetType, targetId, type, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(targetType, targetId, type, delta);
+            }
+        });
+    }
+
+    /**
+     * 반응 증감 (즉시 누적)
+     *
+     * <p>Redis 장애 시 증감분을 잃지 않도록 DB에 바로 반영합니다.
+     * 커밋 이후 콜백에서도 호출되므로 예외를 밖으로 던지지 않습니다. (이미 커밋된 반응 요청이 500이 되지 않도록)</p>
+     */
+    public void increment(TargetType targetType, Long targetId, ReactionType type, int delta) {
+        try {
+            counterBuffer.increment(buffer(targetType, type), String.valueOf(targetId), delta);
+            return;
+        } catch (DataAccessException e) {
+            log.warn("[REACTION_COUNT] 카운터 누적 실패 (DB 직접 반영): targetType={}, targetId={}, type={}, message={}",
+                    targetType, targetId, type, e.getMessage());
+        }
+
+        try {
+            apply(targetType, type, Map.of(String.valueOf(targetId), (long) delta));
+        } catch (RuntimeException e) {
+            log.error("[REACTION_COUNT] 반응 수 DB 직접 반영 실패 (증감분 유실): targetType={}, targetId={}, type={}, delta={}",
+                    targetType, targetId, type, delta, e);
+        }
+    }
+
+    /**
+     * 반영 대기 중인 증감분 조회 (단건)
+     *
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @return 좋아요/싫어요 증감분
+     */
+    public PendingCounts getPending(TargetType targetType, Long targetId) {
+        return getPending(targetType, List.of(targetId)).getOrDefault(targetId, PendingCounts.ZERO);
+    }
+
+    /**
+     * 반영 대기 중인 증감분 일괄 조회
+     *
+     * <p>Redis 장애 시 DB 값만으로 응답하도록 빈 결과를 반환합니다.</p>
+     *
+     * @param targetType 대상 타입
+     * @param targetIds  대상 ID 목록
+     * @return 대상 ID → 증감분 (증감분 없는 대상은 제외)
+     */
+    public Map<Long, PendingCounts> getPending(TargetType targetType, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> fields = targetIds.stream().map(String::valueOf).toList();
+        try {
+            Map<String, Long> likes = counterBuffer.getAll(buffer(targetType, ReactionType.LIKE), fields);
+            Map<String, Long> dislikes = counterBuffer.getAll(buffer(targetType, ReactionType.DISLIKE), fields);
+
+            Map<Long, PendingCounts> pending = new HashMap<>(targetIds.size() * 2);
+            for (Long targetId : targetIds) {
+                String field = String.valueOf(targetId);
+                long like = likes.getOrDefault(field, 0L);
+                long dislike = dislikes.getOrDefault(field, 0L);
+                if (like != 0 || dislike != 0) {
+                    pending.put(targetId, new PendingCounts(like, dislike));
+                }
+            }
+            return pending;
+        } catch (DataAccessException e) {
+            log.warn("[REACTION_COUNT] 카운터 조회 실패: targetType={}, message={}", targetType, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 누적된 반응 수 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${app.reaction.counter-flush-delay-ms:10000}")
+    public void flush() {
+        for (TargetType targetType : TargetType.values()) {
+            for (ReactionType type : ReactionType.values()) {
+                try {
+                    counterBuffer.drain(buffer(targetType, type), deltas -> apply(targetType, type, deltas));
+                } catch (DataAccessException e) {
+                    log.warn("[REACTION_COUNT] 반응 수 반영 실패 (다음 주기에 재시도): targetType={}, type={}, message={}",
+                            targetType, type, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 증감분 DB 반영
+     *
+     * <p>대부분의 증감분이 ±1 근처에 몰려 있으므로 같은 증감분끼리 묶어 IN 절 UPDATE 한 번으로 반영합니다.</p>
+     * <p>커밋 이후 콜백에서는 이미 커밋된 트랜잭션이 바인딩되어 있으므로, 항상 새 트랜잭션(REQUIRES_NEW)에서 실행합니다.</p>
+     */
+    private void apply(TargetType targetType, ReactionType type, Map<String, Long> deltas) {
+        Map<Integer, List<Long>> idsByDelta = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.groupingBy(entry -> entry.getValue().intValue(),
+                        Collectors.mapping(entry -> Long.valueOf(entry.getKey()), Collectors.toList())));
+        if (idsByDelta.isEmpty()) {
+            return;
+        }
+
+        newTransaction().executeWithoutResult(status ->
+                idsByDelta.forEach((delta, ids) -> adjust(targetType, type, ids, delta)));
+
+        if (targetType == TargetType.POST) {
+            // 캐시된 상세의 반응 수(DB 값)가 바뀌었으므로 버전 증가
+            List<Long> postIds = new ArrayList<>(deltas.size());
+            idsByDelta.values().forEach(postIds::addAll);
+            postDetailCache.bumpAll(postIds);
+
+            // 인기 게시글 점수에 반영
+            postRankingService.record(
+                    type == ReactionType.LIKE ? PostRankingService.Signal.LIKE : PostRankingService.Signal.DISLIKE,
+                    deltas.entrySet().stream()
+                            .collect(Collectors.toMap(entry -> Long.valueOf(entry.getKey()), Map.Entry::getValue)));
+        }
+
+        log.info("[REACTION_COUNT] 반응 수 반영 완료: targetType={}, type={}, targets={}", targetType, type, deltas.size());
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private void adjust(TargetType targetType, ReactionType type, List<Long> ids, int delta) {
+        if (targetType == TargetType.POST) {
+            if (type == ReactionType.LIKE) postRepository.adjustLikeCount(ids, delta);
+            else postRepository.adjustDislikeCount(ids, delta);
+        } else {
+            if (type == ReactionType.LIKE) commentRepository.adjustLikeCount(ids, delta);
+            else commentRepository.adjustDislikeCount(ids, delta);
+        }
+    }
+
+    private String buffer(TargetType targetType, ReactionType type) {
+        return "reaction_" + targetType.name().toLowerCase() + "_" + type.name().toLowerCase();
+    }
+}
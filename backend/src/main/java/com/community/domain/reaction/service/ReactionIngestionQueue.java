@@ -0,0 +1,309 @@
+package com.community.domain.reaction.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.exception.ErrorCode;
+import com.community.core.exception.custom.TooManyRequestsException;
+import com.community.domain.reaction.entity.Reaction;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.repository.ReactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 반응 비동기 수집 큐 (micro-batching)
+ *
+ * <p>{@code app.reaction.async-ingestion=true}일 때 반응 요청을 DB 대신 메모리 큐에 담고 즉시 예상 상태를 응답합니다.</p>
+ * <p>큐는 (사용자, 대상) 단위로 병합되어 마지막 요청의 결과만 남고, 주기적으로 JDBC 배치 INSERT/DELETE와
+ * 대상별로 합산한 카운터 증감분으로 반영됩니다.</p>
+ * <p>큐가 가득 차면 새 (사용자, 대상) 요청은 429로 거절하고, 종료 시에는 남은 요청을 모두 반영합니다.</p>
+ * <p>큐는 인스턴스 메모리에 있으므로 같은 사용자의 요청이 여러 인스턴스로 나뉘면 병합되지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionIngestionQueue {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO reactions (user_id, target_type, target_id, reaction_type, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT uk_reactions_user_target
+            DO UPDATE SET reaction_type = EXCLUDED.reaction_type, updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM reactions WHERE user_id = ? AND target_type = ? AND target_id = ?";
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCounterService reactionCounterService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 반영 대기 중인 반응 (lock 보호)
+     */
+    private Map<Key, Entry> pending = new LinkedHashMap<>();
+
+    /**
+     * DB 반영 중인 반응 (lock 보호, 반영 중 들어온 요청의 현재 상태 판단용)
+     */
+    private Map<Key, Entry> inflight = Map.of();
+
+    /**
+     * 끝난 flush 횟수 (lock 보호, 잠금 밖에서 조회한 DB 상태가 그 사이 바뀌었는지 판단용)
+     */
+    private long flushGeneration;
+
+    private record Key(Long userId, TargetType targetType, Long targetId) {
+    }
+
+    /**
+     * (사용자, 대상)별 반응 상태
+     */
+    private static final class Entry {
+        // DB에 저장된 상태 (처음 큐에 들어올 때 기준)
+        private final ReactionType original;
+        // 마지막 요청 이후의 상태 (null이면 반응 없음)
+        private ReactionType desired;
+        private LocalDateTime requestedAt;
+
+        private Entry(ReactionType original) {
+            this.original = original;
+            this.desired = original;
+        }
+    }
+
+    /**
+     * 큐 접수 결과
+     *
+     * <p>큐에 쌓인 요청은 반영 전까지 DB 반응 수와 카운터 어디에도 포함되지 않으므로, 반응 수 증감은
+     * 마지막 요청({@code previous → current})이 아니라 큐에 들어오기 전 상태 기준({@code original → current})으로 계산합니다.</p>
+     *
+     * @param original 큐에 들어오기 전 상태 (반응 수에 반영된 상태)
+     * @param previous 이번 요청 직전 상태 (로그용)
+     * @param current  이번 요청 이후 상태
+     */
+    public record Transition(ReactionType original, ReactionType previous, ReactionType current) {
+
+        public int delta(ReactionType counted) {
+            return ReactionIngestionQueue.delta(original, current, counted);
+        }
+    }
+
+    public boolean isEnabled() {
+        return appProperties.getReaction().isAsyncIngestion();
+    }
+
+    /**
+     * 반응 요청 접수
+     *
+     * <p>같은 타입이면 취소, 다른 타입이면 변경이라는 토글 규칙을 큐의 마지막 상태 기준으로 적용합니다.</p>
+     *
+     * @param userId     사용자 ID
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @param type       요청한 반응 타입
+     * @return 큐에 들어오기 전 상태 / 이전 상태 / 새 상태
+     * @throws TooManyRequestsException 큐가 가득 찬 경우
+     */
+    public Transition submit(Long userId, TargetType targetType, Long targetId, ReactionType type) {
+        Key key = new Key(userId, targetType, targetId);
+
+        // DB 상태는 잠금 밖에서 조회하고, 조회 이후 flush 가 끝났으면 다시 조회
+        ReactionType stored = null;
+        long loadedGeneration = -1;
+        while (true) {
+            lock.lock();
+            try {
+                Entry entry = pending.get(key);
+                if (entry == null) {
+                    Entry inflightEntry = inflight.get(key);
+                    if (inflightEntry == null && loadedGeneration != flushGeneration) {
+                        loadedGeneration = flushGeneration;
+                        // 큐에 없고 DB 상태를 아직 모름 → 잠금을 풀고 조회 후 재시도
+                    } else {
+                        if (pending.size() >= appProperties.getReaction().getIngestionCapacity()) {
+                            log.warn("[REACTION_INGEST] 큐 포화로 요청 거절: userId={}, targetType={}, targetId={}",
+                                    userId, targetType, targetId);
+                            throw new TooManyRequestsException(ErrorCode.REACTION_QUEUE_FULL);
+                        }
+                        entry = new Entry(inflightEntry != null ? inflightEntry.desired : stored);
+                        pending.put(key, entry);
+                    }
+                }
+
+                if (entry != null) {
+                    ReactionType previous = entry.desired;
+                    entry.desired = previous == type ? null : type;
+                    entry.requestedAt = LocalDateTime.now();
+                    return new Transition(entry.original, previous, entry.desired);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            stored = reactionRepository.findByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId)
+                    .map(Reaction::getReactionType)
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * 큐에 쌓인 반응 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${app.reaction.ingestion-flush-delay-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Key, Entry> batch;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                inflight = batch;
+                pending = new LinkedHashMap<>();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                log.warn("[REACTION_INGEST] 반응 배치 반영 실패 (다음 주기에 재시도): requests={}, message={}",
+                        batch.size(), e.getMessage());
+                requeue(batch);
+            } finally {
+                lock.lock();
+                try {
+                    inflight = Map.of();
+                    flushGeneration++;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 반영 실패한 배치를 큐에 되돌리기
+     *
+     * <p>반영 중에 같은 (사용자, 대상) 요청이 새로 들어왔다면 DB 기준 상태는 실패한 배치의 것으로 유지합니다.</p>
+     */
+    private void requeue(Map<Key, Entry> batch) {
+        lock.lock();
+        try {
+            Map<Key, Entry> merged = new LinkedHashMap<>(batch);
+            pending.forEach((key, newer) -> {
+                Entry failed = batch.get(key);
+                if (failed == null) {
+                    merged.put(key, newer);
+                    return;
+                }
+                Entry entry = new Entry(failed.original);
+                entry.desired = newer.desired;
+                entry.requestedAt = newer.requestedAt;
+                merged.put(key, entry);
+            });
+            pending = merged;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 반응 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 배치 반영 (DB 반영 성공 후 대상별로 합산한 카운터 증감분 누적)
+     *
+     * <p>예외는 DB 반영이 실패했을 때만 던집니다. 커밋 이후 카운터 누적 실패는 대상별로 기록만 하고 넘어가므로,
+     * 이미 누적된 증감분이 배치 재시도로 다시 더해지지 않습니다.</p>
+     */
+    private void write(Map<Key, Entry> batch) {
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Map<Key, int[]> deltaByTarget = new HashMap<>();
+
+        batch.forEach((key, entry) -> {
+            if (entry.desired == entry.original) {
+                return;
+            }
+            if (entry.desired == null) {
+                deletes.add(new Object[]{key.userId(), key.targetType().name(), key.targetId()});
+            } else {
+                Timestamp requestedAt = Timestamp.valueOf(entry.requestedAt);
+                upserts.add(new Object[]{key.userId(), key.targetType().name(), key.targetId(),
+                        entry.desired.name(), requestedAt, requestedAt});
+            }
+
+            int[] deltas = deltaByTarget.computeIfAbsent(new Key(null, key.targetType(), key.targetId()), k -> new int[2]);
+            deltas[0] += delta(entry.original, entry.desired, ReactionType.LIKE);
+            deltas[1] += delta(entry.original, entry.desired, ReactionType.DISLIKE);
+        });
+
+        if (upserts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+
+        int batchSize = appProperties.getReaction().getIngestionBatchSize();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < upserts.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, upserts.subList(from, Math.min(from + batchSize, upserts.size())));
+            }
+            for (int from = 0; from < deletes.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(DELETE_SQL, deletes.subList(from, Math.min(from + batchSize, deletes.size())));
+            }
+        });
+
+        deltaByTarget.forEach((target, deltas) -> {
+            incrementCounter(target, ReactionType.LIKE, deltas[0]);
+            incrementCounter(target, ReactionType.DISLIKE, deltas[1]);
+        });
+
+        log.info("[REACTION_INGEST] 반응 배치 반영 완료: requests={}, upserts={}, deletes={}, targets={}",
+                batch.size(), upserts.size(), deletes.size(), deltaByTarget.size());
+    }
+
+    private static int delta(ReactionType from, ReactionType to, ReactionType counted) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+
+    private void incrementCounter(Key target, ReactionType type, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        try {
+            reactionCounterService.increment(target.targetType(), target.targetId(), type, delta);
+        } catch (RuntimeException e) {
+            log.error("[REACTION_INGEST] 카운터 누적 실패 (반응은 반영됨): targetType={}, targetId={}, type={}, delta={}, message={}",
+                    target.targetType(), target.targetId(), type, delta, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.community.domain.reaction.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.reaction.dto.projection.UserReaction;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.repository.ReactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 반응 캐시
+ *
+ * <p>사용자가 반응한 대상 ID 전체를 대상 타입별 Redis Hash 하나에 담아, 목록의 "내 반응"을 HMGET 한 번으로 확인합니다.</p>
+ * <p>키 구조: {@code cache:reaction:{userId}:{targetType}} → field: 대상 ID, value: {@code LIKE | DISLIKE}</p>
+ * <p>{@code _loaded} 필드가 있는 키만 전체 적재된 것으로 보고, 없으면 DB에서 한 번에 채웁니다.
+ * 반응 변경은 {@link ReactionService}가 필드 단위로 반영하며, 어긋난 값은 TTL로 정리됩니다.</p>
+ * <p>전체 적재는 DB 조회 이후 커밋된 변경을 덮어쓰지 않도록 필드마다 HSETNX로 채웁니다.
+ * 취소도 필드를 지우는 대신 {@code NONE}을 기록해, 늦게 도착한 적재가 취소된 반응을 되살리지 않게 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionMembershipCache {
+
+    private static final String KEY = "reaction:";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String NONE = "NONE";
+
+    /**
+     * 전체 적재 (이미 있는 필드는 유지) + 적재 표시 + 만료
+     * KEYS: 캐시 키 / ARGV: TTL(초), 대상 ID, 반응, 대상 ID, 반응 ...
+     */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], '_loaded', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 적재 최대 반응 수 (초과하는 사용자는 캐시하지 않고 페이지 단위 DB 조회)
+     */
+    private static final int MAX_LOAD_SIZE = 10000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final ReactionRepository reactionRepository;
+
+    /**
+     * 대상 목록에 대한 사용자의 반응 조회
+     *
+     * @param userId     사용자 ID
+     * @param targetType 대상 타입
+     * @param targetIds  대상 ID 목록
+     * @return 대상 ID → 반응 타입 (캐시할 수 없으면 empty → 호출 측에서 DB 조회)
+     */
+    public Optional<Map<Long, ReactionType>> find(Long userId, TargetType targetType, Collection<Long> targetIds) {
+        String key = key(userId, targetType);
+        List<Long> ids = List.copyOf(targetIds);
+
+        try {
+            List<String> fields = new ArrayList<>(ids.size() + 1);
+            fields.add(LOADED_FIELD);
+            ids.forEach(id -> fields.add(String.valueOf(id)));
+
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, new ArrayList<>(fields));
+            if (values.get(0) != null) {
+                Map<Long, ReactionType> reactions = new HashMap<>(ids.size() * 2);
+                for (int i = 0; i < ids.size(); i++) {
+                    Object value = values.get(i + 1);
+                    if (value != null && !NONE.equals(value.toString())) {
+                        reactions.put(ids.get(i), ReactionType.valueOf(value.toString()));
+                    }
+                }
+                return Optional.of(reactions);
+            }
+
+            return load(userId, targetType, key).map(all -> {
+                Map<Long, ReactionType> reactions = new HashMap<>(ids.size() * 2);
+                ids.forEach(id -> {
+                    ReactionType type = all.get(id);
+                    if (type != null) {
+                        reactions.put(id, type);
+                    }
+                });
+                return reactions;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[REACTION_CACHE] 캐시 조회 실패: userId={}, targetType={}, message={}", userId, targetType, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자의 반응 전체 적재
+     */
+    private Optional<Map<Long, ReactionType>> load(Long userId, TargetType targetType, String key) {
+        List<UserReaction> rows = reactionRepository.findUserReactions(userId, targetType, Limit.of(MAX_LOAD_SIZE + 1));
+        if (rows.size() > MAX_LOAD_SIZE) {
+            log.info("[REACTION_CACHE] 반응 수가 많아 캐시 생략: userId={}, targetType={}", userId, targetType);
+            return Optional.empty();
+        }
+
+        Map<Long, ReactionType> all = new HashMap<>(rows.size() * 2);
+        Object[] args = new Object[rows.size() * 2 + 1];
+        args[0] = String.valueOf(ttlSeconds());
+        int i = 1;
+        for (UserReaction row : rows) {
+            all.put(row.getTargetId(), row.getReactionType());
+            args[i++] = String.valueOf(row.getTargetId());
+            args[i++] = row.getReactionType().name();
+        }
+        redisTemplate.execute(FILL_SCRIPT, List.of(key), args);
+
+        log.debug("[REACTION_CACHE] 캐시 적재: userId={}, targetType={}, size={}", userId, targetType, rows.size());
+        return Optional.of(all);
+    }
+
+    /**
+     * 반응 변경 반영
+     *
+     * <p>키가 없을 때 만들어진 부분 키는 {@code _loaded}가 없으므로 다음 조회 시 전체 적재됩니다.
+     * 이때 여기서 쓴 필드(취소 포함)는 적재가 덮어쓰지 않습니다.</p>
+     *
+     * @param userId     사용자 ID
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @param type       변경 후 반응 (취소면 null)
+     */
+    public void put(Long userId, TargetType targetType, Long targetId, ReactionType type) {
+        byte[] rawKey = bytes(key(userId, targetType));
+        byte[] field = bytes(String.valueOf(targetId));
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hSet(rawKey, field, bytes(type != null ? type.name() : NONE));
+                connection.keyCommands().expire(rawKey, ttlSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[REACTION_CACHE] 캐시 갱신 실패 (키 삭제): userId={}, targetType={}, targetId={}, message={}",
+                    userId, targetType, targetId, e.getMessage());
+            evict(userId, targetType);
+        }
+    }
+
+    private void evict(Long userId, TargetType targetType) {
+        try {
+            redisTemplate.delete(key(userId, targetType));
+        } catch (DataAccessException e) {
+            log.warn("[REACTION_CACHE] 캐시 삭제 실패: userId={}, targetType={}, message={}", userId, targetType, e.getMessage());
+        }
+    }
+
+    private long ttlSeconds() {
+        return appProperties.getReaction().getMembershipCacheTtlSeconds();
+    }
+
+    private String key(Long userId, TargetType targetType) {
+        return redisKeyProperties.getCache() + KEY + userId + ":" + targetType.name();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package com.community.domain.reaction.service;
+
+import com.community.domain.reaction.entity.Reaction;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.repository.ReactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 반응 조회 서비스 (read 작업)
+ *
+ * <p>목록/상세 응답의 "내 반응"을 페이지 단위로 한 번에 조회합니다.</p>
+ * <p>{@link ReactionMembershipCache}를 먼저 확인하고, 캐시할 수 없을 때만 DB를 조회합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReactionQueryService {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionMembershipCache reactionMembershipCache;
+
+    /**
+     * 대상 목록에 대한 사용자의 반응 일괄 조회
+     *
+     * @param userId     사용자 ID (비로그인이면 null)
+     * @param targetType 대상 타입
+     * @param targetIds  대상 ID 목록
+     * @return 대상 ID → 반응 타입 (반응 없는 대상은 제외)
+     */
+    public Map<Long, ReactionType> findMyReactions(Long userId, TargetType targetType, Collection<Long> targetIds) {
+        if (userId == null || targetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Optional<Map<Long, ReactionType>> cached = reactionMembershipCache.find(userId, targetType, targetIds);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        List<Reaction> reactions = reactionRepository.findAllByUserIdAndTargetTypeAndTargetIdIn(
+                userId, targetType, List.copyOf(targetIds));
+
+        Map<Long, ReactionType> reactionByTargetId = new HashMap<>(reactions.size() * 2);
+        for (Reaction reaction : reactions) {
+            reactionByTargetId.put(reaction.getTargetId(), reaction.getReactionType());
+        }
+        return reactionByTargetId;
+    }
+}
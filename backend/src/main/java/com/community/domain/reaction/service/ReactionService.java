@@ -9,7 +9,7 @@ import com.community.domain.post.repository.PostRepository;
 import com.community.domain.reaction.dto.request.ReactionRequest;
 import com.community.domain.reaction.dto.response.ReactionResponse;
 import com.community.domain.reaction.entity.Reactable;
-import com.community.domain.reaction.entity.Reaction;
+import com.community.domain.reaction.entity.ReactionOutcome;
 import com.community.domain.reaction.entity.ReactionType;
 import com.community.domain.reaction.entity.TargetType;
 import com.community.domain.reaction.repository.ReactionRepository;
@@ -18,8 +18,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 @Slf4j
 @Service
@@ -30,6 +32,9 @@ public class ReactionService {
     private final ReactionRepository reactionRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ReactionCounterService reactionCounterService;
+    private final ReactionIngestionQueue reactionIngestionQueue;
+    private final ReactionMembershipCache reactionMembershipCache;
 
     @Transactional
     public ReactionResponse reactToPost(User user, Long postId, ReactionRequest request) {
@@ -45,45 +50,85 @@ public class ReactionService {
         return react(user, TargetType.COMMENT, target, request.getReactionType());
     }
 
+    /**
+     * 반응 생성/변경/취소
+     *
+     * <p>조회 → 저장/삭제 대신 upsert 쿼리 한 번으로 상태를 전이합니다 (같은 타입이면 취소, 다른 타입이면 변경).</p>
+     * <p>반응 수는 대상 row를 수정하지 않고 {@link ReactionCounterService}에 커밋 후 누적합니다.</p>
+     * <p>응답의 반응 수는 DB 값 + 반영 대기 증감분 + 이번 요청의 증감분입니다.</p>
+     */
     private ReactionResponse react(User user, TargetType targetType, Reactable target, ReactionType type) {
         validate(target, user);
 
-        Optional<Reaction> existingOpt = reactionRepository.findByUserIdAndTargetTypeAndTargetId(
-                user.getId(), targetType, target.getId()
-        );
-
-        if (existingOpt.isPresent()) {
-            Reaction existing = existingOpt.get();
-
-            if (existing.getReactionType() == type) {
-                // 같은 타입 → 취소
-                adjustCount(target, type, -1);
-                reactionRepository.delete(existing);
-
-                log.info("[REACTION_CANCEL] userId={}, targetType={}, targetId={}, type={}",
-                        user.getId(), targetType, target.getId(), type);
-                return ReactionResponse.of(target, null);
-            } else {
-                // 다른 타입 → 변경
-                ReactionType oldType = existing.getReactionType();
-                adjustCount(target, oldType, -1);
-                adjustCount(target, type, 1);
-                existing.changeType(type);
-
-                log.info("[REACTION_CHANGE] userId={}, targetType={}, targetId={}, oldType={}, newType={}",
-                        user.getId(), targetType, target.getId(), oldType, type);
-                return ReactionResponse.of(target, type);
-            }
+        if (reactionIngestionQueue.isEnabled()) {
+            return enqueue(user, targetType, target, type);
         }
 
+        ReactionOutcome outcome = ReactionOutcome.valueOf(reactionRepository.toggle(
+                user.getId(), targetType.name(), target.getId(), type.name(), LocalDateTime.now()));
+        int likeDelta = outcome.delta(type, ReactionType.LIKE);
+        int dislikeDelta = outcome.delta(type, ReactionType.DISLIKE);
+
+        switch (outcome) {
+            case CREATED -> log.info("[REACTION_CREATE] userId={}, targetType={}, targetId={}, type={}",
+                    user.getId(), targetType, target.getId(), type);
+            case CHANGED -> log.info("[REACTION_CHANGE] userId={}, targetType={}, targetId={}, newType={}",
+                    user.getId(), targetType, target.getId(), type);
+            case CANCELLED -> log.info("[REACTION_CANCEL] userId={}, targetType={}, targetId={}, type={}",
+                    user.getId(), targetType, target.getId(), type);
+            case UNCHANGED -> log.info("[REACTION_UNCHANGED] userId={}, targetType={}, targetId={}, type={}",
+                    user.getId(), targetType, target.getId(), type);
+        }
 
-        Reaction reaction = Reaction.create(user, targetType, target.getId(), type);
-        reactionRepository.save(reaction);
-        adjustCount(target, type, 1);
+        if (outcome != ReactionOutcome.UNCHANGED) {
+            updateMembershipAfterCommit(user.getId(), targetType, target.getId(), outcome.resultOf(type));
+        }
+        if (likeDelta != 0) {
+            reactionCounterService.incrementAfterCommit(targetType, target.getId(), ReactionType.LIKE, likeDelta);
+        }
+        if (dislikeDelta != 0) {
+            reactionCounterService.incrementAfterCommit(targetType, target.getId(), ReactionType.DISLIKE, dislikeDelta);
+        }
+
+        ReactionCounterService.PendingCounts pending = reactionCounterService.getPending(targetType, target.getId());
+        return ReactionResponse.of(
+                pending.likeCount(target.getLikeCount() + likeDelta),
+                pending.dislikeCount(target.getDislikeCount() + dislikeDelta),
+                outcome.resultOf(type));
+    }
 
-        log.info("[REACTION_CREATE] userId={}, targetType={}, targetId={}, type={}",
-                user.getId(), targetType, target.getId(), type);
-        return ReactionResponse.of(target, type);
+    /**
+     * 반응 큐 접수 (비동기 수집 모드)
+     *
+     * <p>DB 반영 전에 예상 상태를 바로 응답합니다. 반응 수는 큐 반영 시 카운터에 합산되므로,
+     * 큐에 들어오기 전 상태 기준의 순 증감분만 더합니다. (반영 전에 좋아요 → 취소하면 증감 0)</p>
+     */
+    private ReactionResponse enqueue(User user, TargetType targetType, Reactable target, ReactionType type) {
+        ReactionIngestionQueue.Transition transition =
+                reactionIngestionQueue.submit(user.getId(), targetType, target.getId(), type);
+
+        log.info("[REACTION_ENQUEUE] userId={}, targetType={}, targetId={}, previous={}, current={}",
+                user.getId(), targetType, target.getId(), transition.previous(), transition.current());
+        // 큐 반영 전에도 목록의 "내 반응"이 바로 바뀌도록 캐시는 즉시 갱신
+        reactionMembershipCache.put(user.getId(), targetType, target.getId(), transition.current());
+
+        ReactionCounterService.PendingCounts pending = reactionCounterService.getPending(targetType, target.getId());
+        return ReactionResponse.of(
+                pending.likeCount(target.getLikeCount() + transition.delta(ReactionType.LIKE)),
+                pending.dislikeCount(target.getDislikeCount() + transition.delta(ReactionType.DISLIKE)),
+                transition.current());
+    }
+
+    /**
+     * 사용자별 반응 캐시 갱신 (트랜잭션 커밋 후)
+     */
+    private void updateMembershipAfterCommit(Long userId, TargetType targetType, Long targetId, ReactionType type) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reactionMembershipCache.put(userId, targetType, targetId, type);
+            }
+        });
     }
 
     private void validate(Reactable target, User user) {
@@ -94,14 +139,4 @@ public class ReactionService {
             throw new ForbiddenException(ErrorCode.CANNOT_REACT_OWN_CONTENT);
         }
     }
-
-    private void adjustCount(Reactable target, ReactionType type, int delta) {
-        if (type == ReactionType.LIKE) {
-            if (delta > 0) target.incrementLikeCount();
-            else target.decrementLikeCount();
-        } else {
-            if (delta > 0) target.incrementDislikeCount();
-            else target.decrementDislikeCount();
-        }
-    }
 }
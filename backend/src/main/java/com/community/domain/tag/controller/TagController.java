@@ -0,0 +1,50 @@
+package com.community.domain.tag.controller;
+
+import com.community.core.common.dto.ApiResponse;
+import com.community.domain.tag.dto.condition.PopularTagPeriod;
+import com.community.domain.tag.dto.response.PopularTagResponse;
+import com.community.domain.tag.dto.response.TagSuggestionResponse;
+import com.community.domain.tag.service.PopularTagService;
+import com.community.domain.tag.service.TagAutocompleteIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final PopularTagService popularTagService;
+
+    /**
+     * 인기 태그 조회 (Redis 랭킹)
+     * @param period 집계 기간 (WEEK: 최근, ALL: 전체)
+     * @param size 조회 수 (최대 100)
+     * @return 사용 횟수 순 태그 목록
+     */
+    @GetMapping("/tags/popular")
+    public ResponseEntity<ApiResponse<List<PopularTagResponse>>> getPopularTags(
+            @RequestParam(defaultValue = "WEEK") PopularTagPeriod period,
+            @RequestParam(defaultValue = "20") int size) {
+        List<PopularTagResponse> response = popularTagService.getPopularTags(period, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 태그 자동완성 (메모리 인덱스, DB 조회 X)
+     * @param q 입력 중인 검색어 (초성 검색 가능, 예: "ㅅㅍ")
+     * @param size 조회 수 (최대 20)
+     * @return 사용 횟수 순 태그 목록
+     */
+    @GetMapping("/tags/autocomplete")
+    public ResponseEntity<ApiResponse<List<TagSuggestionResponse>>> autocomplete(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int size) {
+        List<TagSuggestionResponse> response = tagAutocompleteIndex.suggest(q, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,23 @@
+package com.community.domain.tag.dto.condition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 태그 집계 기간
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PopularTagPeriod {
+    /**
+     * 최근 집계 기간 (app.ranking.window-days, 기본 7일)
+     */
+    WEEK("최근"),
+
+    /**
+     * 전체 기간
+     */
+    ALL("전체");
+
+    private final String description;
+}
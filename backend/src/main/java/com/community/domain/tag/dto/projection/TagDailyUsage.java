@@ -0,0 +1,18 @@
+package com.community.domain.tag.dto.projection;
+
+/**
+ * 태그 일별 사용 횟수 프로젝션
+ *
+ * <p>인기 태그 기간 랭킹을 DB에서 다시 채울 때 사용합니다.</p>
+ */
+public interface TagDailyUsage {
+
+    Long getTagId();
+
+    /**
+     * 게시글 작성일 (yyyyMMdd)
+     */
+    String getDay();
+
+    long getUsageCount();
+}
@@ -0,0 +1,13 @@
+package com.community.domain.tag.dto.projection;
+
+/**
+ * 태그 ID - 이름 프로젝션
+ *
+ * <p>태그 이름 → ID 해석 시 엔티티 없이 조회/삽입 결과를 받을 때 사용합니다.</p>
+ */
+public interface TagIdName {
+
+    Long getId();
+
+    String getName();
+}
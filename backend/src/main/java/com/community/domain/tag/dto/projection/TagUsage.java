@@ -0,0 +1,15 @@
+package com.community.domain.tag.dto.projection;
+
+/**
+ * 태그 사용 횟수 프로젝션
+ *
+ * <p>태그 자동완성 인덱스를 엔티티 없이 적재할 때 사용합니다.</p>
+ */
+public interface TagUsage {
+
+    Long getId();
+
+    String getName();
+
+    int getUsageCount();
+}
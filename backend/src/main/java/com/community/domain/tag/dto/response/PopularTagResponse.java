@@ -0,0 +1,27 @@
+package com.community.domain.tag.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인기 태그 응답 DTO
+ */
+@Getter
+@Builder
+public class PopularTagResponse {
+
+    /**
+     * 태그 ID
+     */
+    private Long id;
+
+    /**
+     * 태그 이름
+     */
+    private String name;
+
+    /**
+     * 집계 기간 내 사용 횟수
+     */
+    private long count;
+}
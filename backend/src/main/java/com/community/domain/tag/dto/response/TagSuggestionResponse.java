@@ -0,0 +1,27 @@
+package com.community.domain.tag.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 태그 자동완성 응답 DTO
+ */
+@Getter
+@Builder
+public class TagSuggestionResponse {
+
+    /**
+     * 태그 ID
+     */
+    private Long id;
+
+    /**
+     * 태그 이름
+     */
+    private String name;
+
+    /**
+     * 사용 횟수 (인덱스 갱신 시점 기준)
+     */
+    private int usageCount;
+}
@@ -29,7 +29,7 @@ public class Tag extends BaseEntity {
     private String slug;
 
     /**
-     * 사용 횟수 (비정규화)
+     * 사용 횟수 (비정규화, {@link com.community.domain.tag.repository.TagRepository#adjustUsageCount}로만 변경)
      */
     @Column(name = "usage_count", nullable = false)
     private int usageCount = 0;
@@ -52,20 +52,6 @@ public class Tag extends BaseEntity {
         return Tag.builder().name(name).slug(slug).build();
     }
 
-    /**
-     * 사용 횟수 증가
-     */
-    public void incrementUsageCount() {
-        this.usageCount++;
-    }
-
-    /**
-     * 사용 횟수 감소
-     */
-    public void decrementUsageCount() {
-        this.usageCount = Math.max(0, this.usageCount - 1);
-    }
-
     /**
      * 슬러그 생성 (한글 → 영문)
      *
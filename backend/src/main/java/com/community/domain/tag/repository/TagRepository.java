@@ -1,8 +1,16 @@
 package com.community.domain.tag.repository;
 
+import com.community.domain.tag.dto.projection.TagDailyUsage;
+import com.community.domain.tag.dto.projection.TagIdName;
+import com.community.domain.tag.dto.projection.TagUsage;
 import com.community.domain.tag.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +34,60 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      */
     List<Tag> findByNameIn(List<String> names);
 
+    /**
+     * 이름 목록으로 태그 ID 조회 (엔티티 로딩 X)
+     */
+    @Query("SELECT t.id AS id, t.name AS name FROM Tag t WHERE t.name IN :names")
+    List<TagIdName> findIdsByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * 슬러그 목록으로 태그 ID 조회 (이름은 다르지만 슬러그가 같은 태그 해석용)
+     */
+    @Query("SELECT t.id AS id, t.name AS name FROM Tag t WHERE t.slug IN :slugs")
+    List<TagIdName> findIdsBySlugIn(@Param("slugs") Collection<String> slugs);
+
+    /**
+     * 전체 태그 사용 횟수 조회 (자동완성 인덱스 적재용)
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.usageCount AS usageCount FROM Tag t")
+    List<TagUsage> findAllUsages();
+
+    /**
+     * 기간 내 작성된 게시글의 태그별/일별 사용 횟수 (인기 태그 기간 랭킹 적재용)
+     */
+    @Query(value = """
+            SELECT pt.tag_id AS tagId, to_char(p.created_at, 'YYYYMMDD') AS day, count(*) AS usageCount
+            FROM post_tags pt
+            JOIN posts p ON p.id = pt.post_id
+            WHERE p.created_at >= :since AND p.deleted_at IS NULL
+            GROUP BY pt.tag_id, to_char(p.created_at, 'YYYYMMDD')
+            """, nativeQuery = true)
+    List<TagDailyUsage> findDailyUsagesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 태그 일괄 생성 (이미 있는 이름/슬러그는 건너뜀)
+     *
+     * <p>동시에 같은 태그를 만드는 요청이 있어도 유니크 제약 위반 없이 한 번의 INSERT로 처리하며,
+     * 실제로 삽입된 태그만 반환합니다.</p>
+     */
+    @Query(value = """
+            INSERT INTO tags (name, slug, usage_count, created_at, updated_at)
+            SELECT n.name, n.slug, 0, now(), now()
+            FROM unnest(CAST(:names AS varchar[]), CAST(:slugs AS varchar[])) AS n(name, slug)
+            ON CONFLICT DO NOTHING
+            RETURNING id AS id, name AS name
+            """, nativeQuery = true)
+    List<TagIdName> insertIgnoringConflicts(@Param("names") String[] names, @Param("slugs") String[] slugs);
+
+    /**
+     * 사용 횟수 증감 (벌크 연산)
+     *
+     * <p>엔티티를 읽고 고쳐 쓰지 않으므로 동시에 같은 태그를 쓰는 게시글이 작성되어도 증감이 유실되지 않습니다.</p>
+     */
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = greatest(t.usageCount + :delta, 0) WHERE t.id IN :tagIds")
+    int adjustUsageCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") int delta);
+
     /**
      * 인기 태그 조회 (사용 횟수 상위 N개)
      */
@@ -0,0 +1,106 @@
+package com.community.domain.tag.service;
+
+/**
+ * 한글 자모 분해 (태그 자동완성 키 생성용)
+ *
+ * <p>음절을 초성/중성/종성 호환 자모로 풀고, 겹받침/이중모음도 기본 자모로 나눕니다.
+ * 입력 중인 "슾"(ㅅㅡㅍ)이 "스프링"(ㅅㅡㅍㅡㄹㅣㅇ)의 접두사가 되도록 키와 검색어에 같은 규칙을 적용합니다.</p>
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * 단독으로 입력된 겹자모 → 기본 자모
+     */
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 검색 정규화 (소문자, 공백 제거)
+     */
+    static String normalize(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 자모 분해 ("스프링" → "ㅅㅡㅍㅡㄹㅣㅇ", 한글 외 문자는 그대로)
+     */
+    static String decompose(String normalized) {
+        StringBuilder result = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                result.append(CHOSEONG.charAt(index / 588))
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+                continue;
+            }
+
+            int compound = COMPOUND_JAMO.indexOf(c);
+            result.append(compound >= 0 ? COMPOUND_SPLIT[compound] : String.valueOf(c));
+        }
+        return result.toString();
+    }
+
+    /**
+     * 초성 추출 ("스프링 부트" → "ㅅㅍㄹㅂㅌ", 한글 외 문자는 그대로)
+     */
+    static String choseong(String normalized) {
+        StringBuilder result = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            result.append(isSyllable(c) ? CHOSEONG.charAt((c - SYLLABLE_BEGIN) / 588) : c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * 자음만으로 이루어진 검색어인지 (초성 검색 대상)
+     */
+    static boolean isChoseongOnly(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < CONSONANT_BEGIN || c > CONSONANT_END || CHOSEONG.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,260 @@
+package com.community.domain.tag.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.tag.dto.condition.PopularTagPeriod;
+import com.community.domain.tag.dto.projection.TagDailyUsage;
+import com.community.domain.tag.dto.projection.TagUsage;
+import com.community.domain.tag.dto.response.PopularTagResponse;
+import com.community.domain.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 태그 서비스 (Redis Sorted Set)
+ *
+ * <p>게시글 작성/수정/삭제 시 바뀐 태그만 증감해 전체 기간/최근 기간 랭킹을 유지하므로,
+ * 조회가 tags 테이블 정렬 없이 ZREVRANGE 한 번으로 끝납니다.</p>
+ * <p>최근 기간은 일별 Sorted Set을 집계 기간만큼 보관하고, 조회 시 합친 결과를 짧게 캐시합니다.
+ * 삭제/태그 제거는 게시글 작성일의 일별 키에서 차감합니다.</p>
+ *
+ * <pre>
+ * ranking:tag:all            (ZSet) tagId → 사용 횟수 (전체)
+ * ranking:tag:day:{yyyyMMdd} (ZSet) tagId → 그날 작성된 게시글의 사용 횟수
+ * ranking:tag:window         (ZSet) 최근 일별 키 합계 (1분 캐시)
+ * </pre>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularTagService {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_SIZE = 100;
+    private static final Duration WINDOW_CACHE_TTL = Duration.ofMinutes(1);
+
+    /**
+     * 일별 키 합계 저장 + 만료 (원자적, 만료 없는 합계 키가 남지 않도록)
+     * KEYS: 합계 키, 일별 키... / ARGV: TTL(초)
+     */
+    private static final RedisScript<Long> UNION_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return count
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final TagRepository tagRepository;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+
+    /**
+     * 인기 태그 조회
+     *
+     * @param period 집계 기간
+     * @param size   조회 수
+     * @return 사용 횟수 순 태그 목록 (Redis 장애 시 빈 목록)
+     */
+    public List<PopularTagResponse> getPopularTags(PopularTagPeriod period, int size) {
+        size = Math.min(Math.max(size, 1), MAX_SIZE);
+
+        try {
+            String key = period == PopularTagPeriod.ALL ? allKey() : windowKey();
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, 1, Double.POSITIVE_INFINITY, 0, size);
+            if (tuples == null || tuples.isEmpty()) {
+                return List.of();
+            }
+
+            List<Long> tagIds = tuples.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+            Map<Long, String> names = tagAutocompleteIndex.findNames(tagIds);
+
+            List<PopularTagResponse> responses = new ArrayList<>(tuples.size());
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                Long tagId = Long.valueOf(tuple.getValue());
+                String name = names.get(tagId);
+                if (name != null) {
+                    responses.add(PopularTagResponse.builder()
+                            .id(tagId)
+                            .name(name)
+                            .count(tuple.getScore().longValue())
+                            .build());
+                }
+            }
+            return responses;
+        } catch (DataAccessException e) {
+            log.warn("[TAG_RANKING] 인기 태그 조회 실패: period={}, message={}", period, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 태그 사용 증감 (트랜잭션 커밋 후)
+     *
+     * @param tagIds 태그 ID 목록
+     * @param delta  증감분 (추가 +1, 제거/삭제 -1)
+     * @param postCreatedAt 게시글 작성 시각 (최근 기간 일별 키 선택, 증감 모두 같은 날에 반영)
+     */
+    public void recordAfterCommit(Collection<Long> tagIds, int delta, LocalDateTime postCreatedAt) {
+        if (tagIds.isEmpty() || delta == 0) {
+            return;
+        }
+        List<Long> ids = List.copyOf(tagIds);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(ids, delta, postCreatedAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(ids, delta, postCreatedAt);
+            }
+        });
+    }
+
+    private void record(List<Long> tagIds, int delta, LocalDateTime postCreatedAt) {
+        LocalDate day = postCreatedAt.toLocalDate();
+        boolean inWindow = !day.isBefore(windowStart());
+        byte[] allKey = bytes(allKey());
+        byte[] dayKey = bytes(dayKey(day));
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long tagId : tagIds) {
+                    byte[] member = bytes(String.valueOf(tagId));
+                    connection.zSetCommands().zIncrBy(allKey, delta, member);
+                    if (inWindow) {
+                        connection.zSetCommands().zIncrBy(dayKey, delta, member);
+                    }
+                }
+                if (inWindow) {
+                    connection.keyCommands().expire(dayKey, dayKeyTtl(day).toSeconds());
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[TAG_RANKING] 인기 태그 반영 실패: tags={}, delta={}, message={}", tagIds.size(), delta, e.getMessage());
+        }
+    }
+
+    /**
+     * 비어 있는 랭킹 DB로 채우기 (최초 기동, Redis 초기화 후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(allKey()))) {
+                seedAll();
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(dayKey(LocalDate.now())))) {
+                seedWindow();
+            }
+        } catch (DataAccessException e) {
+            log.warn("[TAG_RANKING] 인기 태그 적재 실패: message={}", e.getMessage());
+        }
+    }
+
+    private void seedAll() {
+        List<TagUsage> usages = tagRepository.findAllUsages().stream()
+                .filter(usage -> usage.getUsageCount() > 0)
+                .toList();
+        if (usages.isEmpty()) {
+            return;
+        }
+
+        byte[] key = bytes(allKey());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TagUsage usage : usages) {
+                connection.zSetCommands().zAdd(key, usage.getUsageCount(), bytes(String.valueOf(usage.getId())));
+            }
+            return null;
+        });
+        log.info("[TAG_RANKING] 전체 기간 랭킹 적재: tags={}", usages.size());
+    }
+
+    private void seedWindow() {
+        List<TagDailyUsage> usages = tagRepository.findDailyUsagesSince(windowStart().atStartOfDay());
+        if (usages.isEmpty()) {
+            return;
+        }
+
+        // 같은 날 동시에 누적된 값이 있어도 덮어쓰기(ZADD)라 재실행해도 값이 부풀지 않음
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TagDailyUsage usage : usages) {
+                LocalDate day = LocalDate.parse(usage.getDay(), DAY_FORMAT);
+                byte[] key = bytes(dayKey(day));
+                connection.zSetCommands().zAdd(key, usage.getUsageCount(), bytes(String.valueOf(usage.getTagId())));
+                connection.keyCommands().expire(key, dayKeyTtl(day).toSeconds());
+            }
+            return null;
+        });
+        log.info("[TAG_RANKING] 최근 기간 랭킹 적재: rows={}", usages.size());
+    }
+
+    /**
+     * 최근 기간 합계 키 (없으면 일별 키를 합쳐 1분간 캐시)
+     */
+    private String windowKey() {
+        String windowKey = redisKeyProperties.getRanking() + "tag:window";
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+            return windowKey;
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(windowKey);
+        for (LocalDate day = windowStart(); !day.isAfter(LocalDate.now()); day = day.plusDays(1)) {
+            keys.add(dayKey(day));
+        }
+        redisTemplate.execute(UNION_SCRIPT, keys, String.valueOf(WINDOW_CACHE_TTL.toSeconds()));
+        return windowKey;
+    }
+
+    private LocalDate windowStart() {
+        return LocalDate.now().minusDays(appProperties.getRanking().getWindowDays() - 1L);
+    }
+
+    /**
+     * 일별 키 만료 (집계 기간에서 빠지는 날 + 하루 여유)
+     */
+    private Duration dayKeyTtl(LocalDate day) {
+        LocalDateTime expiresAt = day.plusDays(appProperties.getRanking().getWindowDays() + 1L).atStartOfDay();
+        return Duration.between(LocalDateTime.now(), expiresAt);
+    }
+
+    private String allKey() {
+        return redisKeyProperties.getRanking() + "tag:all";
+    }
+
+    private String dayKey(LocalDate day) {
+        return redisKeyProperties.getRanking() + "tag:day:" + day.format(DAY_FORMAT);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,300 @@
+package com.community.domain.tag.service;
+
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.tag.dto.response.TagSuggestionResponse;
+import com.community.domain.tag.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 자동완성 인덱스 (메모리 정렬 배열)
+ *
+ * <p>태그마다 자모 분해 키와 초성 키를 만들어 각각 정렬 배열에 담고, 이진 탐색으로 접두사 범위를 찾은 뒤
+ * 사용 횟수 상위 N개를 고릅니다. 키 입력마다 호출되는 자동완성이 DB를 조회하지 않습니다.</p>
+ * <p>검색어가 자음만으로 이루어지면 초성 키("ㅅㅍ" → 스프링)를, 그 외에는 자모 키("슾" → 스프링)를 검색합니다.</p>
+ * <p>스냅샷은 통째로 교체(AtomicReference)되므로 읽는 쪽은 락 없이 항상 일관된 상태를 봅니다.</p>
+ * <p>갱신 시점: 애플리케이션 시작, 태그 생성 커밋 이후(증분), 다른 인스턴스의 생성 알림(Redis Pub/Sub),
+ * 주기적 재로딩(사용 횟수 반영)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagAutocompleteIndex implements MessageListener {
+
+    private static final String CREATED_CHANNEL = "tag:created";
+    private static final int MAX_SIZE = 20;
+
+    private static final Comparator<Entry> BY_KEY = Comparator.comparing(Entry::key);
+    private static final Comparator<Tag> BY_USAGE = Comparator.comparingInt(Tag::usageCount)
+            .thenComparing(Tag::name, Comparator.reverseOrder());
+
+    private final TagRepository tagRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    private record Tag(Long id, String name, int usageCount) {
+    }
+
+    private record Entry(String key, Tag tag) {
+    }
+
+    /**
+     * 정렬된 자모 키 / 초성 키 배열 + 태그 ID → 이름
+     */
+    private record Snapshot(Entry[] jamo, Entry[] choseong, Map<Long, String> names) {
+        static final Snapshot EMPTY = new Snapshot(new Entry[0], new Entry[0], Map.of());
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel()));
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 태그 자동완성
+     *
+     * @param query 입력 중인 검색어
+     * @param size  조회 수 (최대 20)
+     * @return 사용 횟수 순 태그 목록
+     */
+    public List<TagSuggestionResponse> suggest(String query, int size) {
+        String normalized = query == null ? "" : HangulJamo.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        size = Math.min(Math.max(size, 1), MAX_SIZE);
+
+        Snapshot current = snapshot.get();
+        boolean choseongOnly = HangulJamo.isChoseongOnly(normalized);
+        Entry[] entries = choseongOnly ? current.choseong() : current.jamo();
+        String prefix = choseongOnly ? normalized : HangulJamo.decompose(normalized);
+
+        // 접두사 범위를 훑으며 사용 횟수 상위 size 개만 유지 (min-heap)
+        PriorityQueue<Tag> top = new PriorityQueue<>(size + 1, BY_USAGE);
+        for (int i = lowerBound(entries, prefix); i < entries.length && entries[i].key().startsWith(prefix); i++) {
+            top.offer(entries[i].tag());
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+
+        return top.stream()
+                .sorted(BY_USAGE.reversed())
+                .map(tag -> TagSuggestionResponse.builder()
+                        .id(tag.id())
+                        .name(tag.name())
+                        .usageCount(tag.usageCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 태그 ID → 이름 조회 (인덱스에 없는 태그는 제외)
+     *
+     * @param tagIds 태그 ID 목록
+     * @return 태그 ID → 이름
+     */
+    public Map<Long, String> findNames(Collection<Long> tagIds) {
+        Map<Long, String> names = snapshot.get().names();
+        Map<Long, String> result = new HashMap<>(tagIds.size() * 2);
+        for (Long tagId : tagIds) {
+            String name = names.get(tagId);
+            if (name != null) {
+                result.put(tagId, name);
+            }
+        }
+        return result;
+    }
+
+    private static int lowerBound(Entry[] entries, String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].key().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 전체 태그 재로딩 (스냅샷 교체)
+     *
+     * <p>DB 조회 이후 증분 추가({@link #onTagsCreated}, Pub/Sub)된 태그가 사라지지 않도록,
+     * 현재 스냅샷에는 있지만 새로 읽은 목록에 없는 태그는 다시 병합해 교체합니다.</p>
+     */
+    public void reload() {
+        List<Tag> tags = tagRepository.findAllUsages().stream()
+                .map(row -> new Tag(row.getId(), row.getName(), row.getUsageCount()))
+                .toList();
+        Snapshot fresh = build(tags);
+        snapshot.updateAndGet(current -> {
+            List<Tag> added = Arrays.stream(current.jamo())
+                    .map(Entry::tag)
+                    .filter(tag -> !fresh.names().containsKey(tag.id()))
+                    .toList();
+            return added.isEmpty() ? fresh : merge(fresh, added);
+        });
+
+        log.info("[TAG_INDEX] 태그 인덱스 갱신: tags={}", tags.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 사용 횟수 반영을 위한 주기적 재로딩
+     */
+    @Scheduled(fixedDelayString = "${app.tag.autocomplete-refresh-delay-ms:300000}",
+            initialDelayString = "${app.tag.autocomplete-refresh-delay-ms:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("[TAG_INDEX] 주기적 재로딩 실패 (기존 인덱스 유지): message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 생성된 태그 추가 (커밋 이후) + 다른 인스턴스에 알림
+     *
+     * @param idByName 태그 이름 → ID
+     */
+    public void onTagsCreated(Map<String, Long> idByName) {
+        add(idByName);
+        try {
+            String body = idByName.entrySet().stream()
+                    .map(entry -> entry.getValue() + ":" + entry.getKey())
+                    .collect(Collectors.joining("\n"));
+            redisTemplate.convertAndSend(channel(), body);
+        } catch (DataAccessException e) {
+            log.warn("[TAG_INDEX] 생성 알림 실패: tags={}, message={}", idByName.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 태그 생성 알림 수신 ({id}:{name} 줄 목록)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Map<String, Long> idByName = new HashMap<>();
+        for (String line : new String(message.getBody(), StandardCharsets.UTF_8).split("\n")) {
+            int delimiter = line.indexOf(':');
+            if (delimiter > 0) {
+                idByName.put(line.substring(delimiter + 1), Long.valueOf(line.substring(0, delimiter)));
+            }
+        }
+        add(idByName);
+    }
+
+    /**
+     * 새 태그를 기존 스냅샷에 병합 (태그 생성은 드물어 배열 복사 비용이 작음)
+     */
+    private void add(Map<String, Long> idByName) {
+        if (idByName.isEmpty()) {
+            return;
+        }
+
+        List<Tag> tags = idByName.entrySet().stream()
+                .map(entry -> new Tag(entry.getValue(), entry.getKey(), 0))
+                .toList();
+        snapshot.updateAndGet(current -> merge(current, tags));
+
+        log.debug("[TAG_INDEX] 태그 인덱스 추가: tags={}", tags.size());
+    }
+
+    private static Snapshot build(List<Tag> tags) {
+        List<Entry> jamo = new ArrayList<>(tags.size());
+        List<Entry> choseong = new ArrayList<>(tags.size());
+        Map<Long, String> names = new HashMap<>(tags.size() * 2);
+        for (Tag tag : tags) {
+            names.put(tag.id(), tag.name());
+            String normalized = HangulJamo.normalize(tag.name());
+            jamo.add(new Entry(HangulJamo.decompose(normalized), tag));
+            choseong.add(new Entry(HangulJamo.choseong(normalized), tag));
+        }
+
+        Entry[] jamoArray = jamo.toArray(Entry[]::new);
+        Entry[] choseongArray = choseong.toArray(Entry[]::new);
+        Arrays.sort(jamoArray, BY_KEY);
+        Arrays.sort(choseongArray, BY_KEY);
+        return new Snapshot(jamoArray, choseongArray, Map.copyOf(names));
+    }
+
+    private static Snapshot merge(Snapshot current, List<Tag> added) {
+        Snapshot extra = build(added.stream().filter(tag -> !contains(current.jamo(), tag)).toList());
+        if (extra.jamo().length == 0) {
+            return current;
+        }
+        Map<Long, String> names = new HashMap<>(current.names());
+        names.putAll(extra.names());
+        return new Snapshot(mergeSorted(current.jamo(), extra.jamo()), mergeSorted(current.choseong(), extra.choseong()),
+                Map.copyOf(names));
+    }
+
+    private static boolean contains(Entry[] entries, Tag tag) {
+        String key = HangulJamo.decompose(HangulJamo.normalize(tag.name()));
+        for (int i = lowerBound(entries, key); i < entries.length && entries[i].key().equals(key); i++) {
+            if (entries[i].tag().id().equals(tag.id())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry[] mergeSorted(Entry[] left, Entry[] right) {
+        Entry[] merged = new Entry[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            merged[k++] = BY_KEY.compare(left[i], right[j]) <= 0 ? left[i++] : right[j++];
+        }
+        while (i < left.length) {
+            merged[k++] = left[i++];
+        }
+        while (j < right.length) {
+            merged[k++] = right[j++];
+        }
+        return merged;
+    }
+
+    private String channel() {
+        return redisKeyProperties.getCache() + CREATED_CHANNEL;
+    }
+}
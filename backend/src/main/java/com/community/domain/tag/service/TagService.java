@@ -0,0 +1,177 @@
+package com.community.domain.tag.service;
+
+import com.community.domain.tag.dto.projection.TagIdName;
+import com.community.domain.tag.entity.Tag;
+import com.community.domain.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 서비스
+ *
+ * <p>게시글의 태그 이름 목록을 태그 ID 목록으로 한 번에 해석합니다: 로컬 캐시 → IN 조회 1회 → 없는 태그 일괄 INSERT 1회.</p>
+ * <p>태그는 이름/ID가 바뀌지 않으므로 커밋된 이름 → ID 매핑을 인스턴스 메모리에 캐시합니다.
+ * 이번 트랜잭션에서 만든 태그는 롤백될 수 있으므로 커밋 이후에만 캐시에 넣습니다.</p>
+ * <p>사용 횟수는 엔티티 수정 대신 증감 UPDATE로 반영합니다.</p>
+ * <p>새로 만든 태그는 커밋 이후 자동완성 인덱스({@link TagAutocompleteIndex})에도 추가합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagService {
+
+    /**
+     * 로컬 캐시 최대 크기 (초과 시 비우고 다시 채움)
+     */
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private final TagRepository tagRepository;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final PopularTagService popularTagService;
+
+    /**
+     * 태그 이름 → ID (커밋된 태그만)
+     */
+    private final Map<String, Long> idByName = new ConcurrentHashMap<>();
+
+    /**
+     * 태그 이름 목록 → ID 목록 (없는 태그는 생성)
+     *
+     * @param names 태그 이름 목록
+     * @return 태그 ID 목록 (입력 순서, 중복 제거)
+     */
+    @Transactional
+    public List<Long> resolveIds(Collection<String> names) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (resolved.containsKey(name)) {
+                continue;
+            }
+            Long id = idByName.get(name);
+            resolved.put(name, id);
+            if (id == null) {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Long> found = new HashMap<>(missing.size() * 2);
+            for (TagIdName tag : tagRepository.findIdsByNameIn(missing)) {
+                found.put(tag.getName(), tag.getId());
+            }
+            cache(found);
+
+            List<String> absent = missing.stream().filter(name -> !found.containsKey(name)).toList();
+            if (!absent.isEmpty()) {
+                found.putAll(create(absent));
+            }
+            missing.forEach(name -> resolved.put(name, found.get(name)));
+        }
+
+        return resolved.values().stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    /**
+     * 태그 일괄 생성
+     *
+     * <p>동시에 만들어졌거나 슬러그만 같은 태그는 INSERT 에서 건너뛰므로, 남은 이름은 기존 태그로 다시 해석합니다.</p>
+     */
+    private Map<String, Long> create(List<String> names) {
+        String[] slugs = names.stream().map(Tag::createSlug).toArray(String[]::new);
+
+        Map<String, Long> created = new HashMap<>(names.size() * 2);
+        for (TagIdName tag : tagRepository.insertIgnoringConflicts(names.toArray(String[]::new), slugs)) {
+            created.put(tag.getName(), tag.getId());
+        }
+        cacheAfterCommit(Map.copyOf(created));
+
+        Map<String, Long> result = new HashMap<>(created);
+        List<String> skipped = names.stream().filter(name -> !created.containsKey(name)).toList();
+        if (!skipped.isEmpty()) {
+            Map<String, Long> existing = new HashMap<>(skipped.size() * 2);
+            for (TagIdName tag : tagRepository.findIdsByNameIn(skipped)) {
+                existing.put(tag.getName(), tag.getId());
+            }
+
+            List<String> slugOnly = skipped.stream().filter(name -> !existing.containsKey(name)).toList();
+            if (!slugOnly.isEmpty()) {
+                Map<String, Long> idBySlug = new HashMap<>(slugOnly.size() * 2);
+                for (TagIdName tag : tagRepository.findIdsBySlugIn(slugOnly.stream().map(Tag::createSlug).toList())) {
+                    idBySlug.put(Tag.createSlug(tag.getName()), tag.getId());
+                }
+                slugOnly.forEach(name -> {
+                    Long id = idBySlug.get(Tag.createSlug(name));
+                    if (id != null) {
+                        existing.put(name, id);
+                    } else {
+                        log.warn("[TAG] 태그 해석 실패: name={}", name);
+                    }
+                });
+            }
+
+            cache(existing);
+            result.putAll(existing);
+        }
+
+        log.info("[TAG] 태그 생성: requested={}, created={}", names.size(), created.size());
+        return result;
+    }
+
+    /**
+     * 사용 횟수 증감 (DB + 커밋 이후 인기 태그 랭킹)
+     *
+     * @param tagIds 태그 ID 목록
+     * @param delta  증감분
+     * @param usedAt 게시글 작성 시각 (인기 태그 최근 기간 집계일)
+     */
+    @Transactional
+    public void adjustUsageCount(Collection<Long> tagIds, int delta, LocalDateTime usedAt) {
+        if (tagIds.isEmpty() || delta == 0) {
+            return;
+        }
+        tagRepository.adjustUsageCount(tagIds, delta);
+        popularTagService.recordAfterCommit(tagIds, delta, usedAt);
+    }
+
+    private void cache(Map<String, Long> ids) {
+        if (idByName.size() + ids.size() > MAX_CACHE_SIZE) {
+            idByName.clear();
+        }
+        idByName.putAll(ids);
+    }
+
+    private void cacheAfterCommit(Map<String, Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache(ids);
+            tagAutocompleteIndex.onTagsCreated(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache(ids);
+                tagAutocompleteIndex.onTagsCreated(ids);
+            }
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.community.domain.user.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.user.entity.User;
+import com.community.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재 사용자 스냅샷 캐시 (로컬 짧은 TTL + Redis Pub/Sub 무효화)
+ *
+ * <p>{@code @CurrentUser User}를 받는 요청마다 users 테이블을 조회하지 않도록, 조회한 사용자를 짧게 캐시합니다.
+ * open-in-view가 꺼져 있어 리졸버가 돌려주던 엔티티도 이미 준영속이었으므로 캐시된 엔티티와 쓰임새가 같습니다.
+ * 캐시된 엔티티는 여러 요청이 공유하므로 읽기 전용으로만 사용하고, 수정은 서비스에서 다시 조회한 엔티티로 합니다.</p>
+ * <p>비밀번호 해시가 담긴 엔티티는 Redis에 저장하지 않고, Redis는 인스턴스 간 무효화 메시지에만 사용합니다.
+ * 프로필/권한 변경 시 커밋 이후 모든 인스턴스의 로컬 캐시를 비웁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "user:invalidate";
+
+    /**
+     * 로컬 캐시 최대 크기 (초과 시 비우고 다시 채움)
+     */
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyProperties redisKeyProperties;
+    private final AppProperties appProperties;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 사용자 ID → 사용자 (준영속)
+     */
+    private final Map<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel()));
+    }
+
+    /**
+     * 사용자 조회 (로컬 → DB 순)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 (탈퇴/없는 사용자는 empty, 캐시하지 않음)
+     */
+    public Optional<User> get(Long userId) {
+        LocalEntry local = localCache.get(userId);
+        if (local != null && !local.isExpired()) {
+            return Optional.of(local.user());
+        }
+
+        Optional<User> user = userRepository.findById(userId);
+        user.ifPresentOrElse(found -> put(userId, found), () -> localCache.remove(userId));
+        return user;
+    }
+
+    /**
+     * 사용자 캐시 무효화 (트랜잭션 커밋 후, 로컬 + 다른 인스턴스 로컬)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    private void evict(Long userId) {
+        localCache.remove(userId);
+        try {
+            redisTemplate.convertAndSend(channel(), String.valueOf(userId));
+        } catch (DataAccessException e) {
+            log.warn("[USER_CACHE] 캐시 무효화 알림 실패: userId={}, message={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.remove(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void put(Long userId, User user) {
+        if (localCache.size() >= MAX_CACHE_SIZE) {
+            localCache.clear();
+        }
+        long ttlMillis = Duration.ofSeconds(appProperties.getUser().getCacheTtlSeconds()).toMillis();
+        localCache.put(userId, new LocalEntry(user, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private String channel() {
+        return redisKeyProperties.getCache() + INVALIDATE_CHANNEL;
+    }
+
+    private record LocalEntry(User user, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
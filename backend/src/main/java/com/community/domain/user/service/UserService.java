@@ -24,6 +24,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AppProperties appProperties;
+    private final UserCache userCache;
 
     /**
      * 회원 가입
@@ -75,6 +76,7 @@ public class UserService {
      * @param userId 현재 로그인한 아이디
      * @param request 프로필업데이트 DTO
      */
+    @Transactional
     public void updateProfile(Long userId, ProfileUpdateRequest request){
         log.info("[PROFILE_UPDATE] 프로필 수정 시도: userId={}", userId);
 
@@ -98,6 +100,7 @@ public class UserService {
             user.updateProfileImage(request.getProfileImage());
             log.info("[PROFILE_UPDATE] 프로필 이미지 변경: userId={}", userId);
         }
+        userCache.evictAfterCommit(userId);
     }
 
     /**
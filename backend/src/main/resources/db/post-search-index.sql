@@ -0,0 +1,16 @@
+-- ===========================================
+-- 게시글 전문 검색 인덱스 (SearchMode.FULLTEXT)
+-- ===========================================
+-- pg_trgm GIN 인덱스로 title/content ILIKE '%keyword%' 검색을 처리합니다.
+-- 한글 트라이그램은 DB 로케일이 UTF-8(ko_KR.UTF-8, en_US.UTF-8 등)이어야 생성됩니다. (C 로케일 X)
+-- 여러 번 실행해도 안전합니다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_posts_title_trgm
+    ON posts USING gin (title gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_posts_content_trgm
+    ON posts USING gin (content gin_trgm_ops)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,137 @@
+package com.community.domain.post.service;
+
+import com.community.domain.post.dto.projection.PostSearchHit;
+import com.community.domain.post.dto.projection.PostSummary;
+import com.community.domain.post.dto.projection.PostTagName;
+import com.community.domain.post.dto.response.PostListResponse;
+import com.community.domain.post.repository.PostTagRepository;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.service.ReactionCounterService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostListAssemblerTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @Mock
+    private ReactionCounterService reactionCounterService;
+
+    @InjectMocks
+    private PostListAssembler postListAssembler;
+
+    @Test
+    void 페이지당_태그_조회_쿼리는_한번만_실행된다() {
+        List<PostSummary> summaries = LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(this::summary).toList();
+        List<PostTagName> rows = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            rows.add(tagName(id, "tag" + id));
+            rows.add(tagName(id, "common"));
+        }
+        when(postTagRepository.findTagNamesByPostIds(anyCollection())).thenReturn(rows);
+
+        Page<PostSummary> summaryPage = new PageImpl<>(summaries, PageRequest.of(0, PAGE_SIZE), 100);
+        Page<PostListResponse> responsePage = postListAssembler.toResponsePage(summaryPage);
+
+        verify(postTagRepository, times(1)).findTagNamesByPostIds(anyCollection());
+        verifyNoMoreInteractions(postTagRepository);
+
+        assertThat(responsePage.getContent()).hasSize(PAGE_SIZE);
+        assertThat(responsePage.getContent().get(0).getTags()).containsExactly("tag1", "common");
+        assertThat(responsePage.getTotalElements()).isEqualTo(100);
+    }
+
+    @Test
+    void 빈_페이지는_태그를_조회하지_않는다() {
+        List<PostListResponse> responses = postListAssembler.toResponses(List.of());
+
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(postTagRepository);
+    }
+
+    @Test
+    void 태그가_없는_게시글은_빈_목록을_반환한다() {
+        when(postTagRepository.findTagNamesByPostIds(anyCollection())).thenReturn(List.of());
+
+        List<PostListResponse> responses = postListAssembler.toResponses(List.of(summary(1L)));
+
+        assertThat(responses.get(0).getTags()).isEmpty();
+    }
+
+    @Test
+    void 잘린_내용의_미완성_태그는_미리보기에서_제거된다() {
+        PostSummary summary = new PostSummary(1L, "title", "<p>content</p><img src=\"http://ex", false,
+                0, 0, 0, true, null, false, LocalDateTime.now(), 1L, 1L, "nick", null);
+        when(postTagRepository.findTagNamesByPostIds(anyCollection())).thenReturn(List.of());
+
+        List<PostListResponse> responses = postListAssembler.toResponses(List.of(summary));
+
+        assertThat(responses.get(0).getPreview()).isEqualTo("content");
+    }
+
+    @Test
+    void 검색_결과는_관련도_순서를_유지하고_키워드를_하이라이트한다() {
+        when(postTagRepository.findTagNamesByPostIds(anyCollection())).thenReturn(List.of());
+        List<PostSearchHit> hits = List.of(
+                new PostSearchHit(2L, 1.5, "Spring <b> 스프링 부트"),
+                new PostSearchHit(1L, 0.3, "자바와 spring"));
+        Page<PostSearchHit> hitPage = new PageImpl<>(hits, PageRequest.of(0, PAGE_SIZE), 2);
+
+        Page<PostListResponse> responsePage = postListAssembler.toSearchResponsePage(hitPage, List.of(summary(1L), summary(2L)), "spring");
+
+        assertThat(responsePage.getContent()).extracting(PostListResponse::getId).containsExactly(2L, 1L);
+        assertThat(responsePage.getContent().get(0).getHighlight()).isEqualTo("<mark>Spring</mark> &lt;b&gt; 스프링 부트");
+        assertThat(responsePage.getContent().get(1).getHighlight()).isEqualTo("자바와 <mark>spring</mark>");
+    }
+
+    @Test
+    void 좋아요_수는_미반영_증감분을_더해_반환한다() {
+        when(postTagRepository.findTagNamesByPostIds(anyCollection())).thenReturn(List.of());
+        when(reactionCounterService.getPending(eq(TargetType.POST), anyCollection()))
+                .thenReturn(Map.of(1L, new ReactionCounterService.PendingCounts(3, 0)));
+
+        List<PostListResponse> responses = postListAssembler.toResponses(List.of(summary(1L), summary(2L)));
+
+        assertThat(responses).extracting(PostListResponse::getLikeCount).containsExactly(3, 0);
+    }
+
+    private PostSummary summary(long id) {
+        return new PostSummary(id, "title" + id, "<p>content</p>", false,
+                0, 0, 0, false, null, false, LocalDateTime.now(), 1L, 1L, "nick", null);
+    }
+
+    private PostTagName tagName(Long postId, String name) {
+        return new PostTagName() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public String getTagName() {
+                return name;
+            }
+        };
+    }
+}
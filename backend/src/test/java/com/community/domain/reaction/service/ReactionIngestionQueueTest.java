@@ -0,0 +1,129 @@
+package com.community.domain.reaction.service;
+
+import com.community.core.config.properties.AppProperties;
+import com.community.domain.reaction.entity.ReactionType;
+import com.community.domain.reaction.entity.TargetType;
+import com.community.domain.reaction.repository.ReactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionIngestionQueueTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long POST_ID = 10L;
+
+    @Mock
+    private ReactionRepository reactionRepository;
+
+    @Mock
+    private ReactionCounterService reactionCounterService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReactionIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ReactionIngestionQueue(reactionRepository, reactionCounterService, jdbcTemplate,
+                transactionTemplate, new AppProperties());
+        when(reactionRepository.findByUserIdAndTargetTypeAndTargetId(USER_ID, TargetType.POST, POST_ID))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    void 반영_전에_같은_반응을_두번_누르면_반응_수_증감은_0이다() {
+        ReactionIngestionQueue.Transition liked = queue.submit(USER_ID, TargetType.POST, POST_ID, ReactionType.LIKE);
+        ReactionIngestionQueue.Transition cancelled = queue.submit(USER_ID, TargetType.POST, POST_ID, ReactionType.LIKE);
+
+        assertThat(liked.delta(ReactionType.LIKE)).isEqualTo(1);
+        assertThat(cancelled.previous()).isEqualTo(ReactionType.LIKE);
+        assertThat(cancelled.current()).isNull();
+        // 첫 요청은 아직 카운트에 반영되지 않았으므로 -1이 아니라 0
+        assertThat(cancelled.delta(ReactionType.LIKE)).isZero();
+
+        queue.flush();
+
+        // 순 변화가 없으므로 DB 반영과 카운터 누적 모두 생략
+        verifyNoInteractions(transactionTemplate, reactionCounterService);
+    }
+
+    @Test
+    void 반영에_실패한_배치는_큐에_돌아가_다음_주기에_반영된다() {
+        queue.submit(USER_ID, TargetType.POST, POST_ID, ReactionType.LIKE);
+
+        doThrow(new IllegalStateException("db down"))
+                .doAnswer(runInTransaction())
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        queue.flush();
+        verifyNoInteractions(reactionCounterService);
+
+        // 되돌아간 요청이 큐 상태로 남아 있으므로 DB를 다시 조회하지 않고 토글 규칙을 적용
+        ReactionIngestionQueue.Transition changed = queue.submit(USER_ID, TargetType.POST, POST_ID, ReactionType.DISLIKE);
+        assertThat(changed.previous()).isEqualTo(ReactionType.LIKE);
+        assertThat(changed.delta(ReactionType.LIKE)).isZero();
+        assertThat(changed.delta(ReactionType.DISLIKE)).isEqualTo(1);
+
+        queue.flush();
+
+        verify(reactionRepository, times(1)).findByUserIdAndTargetTypeAndTargetId(USER_ID, TargetType.POST, POST_ID);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyList());
+        verify(reactionCounterService).increment(TargetType.POST, POST_ID, ReactionType.DISLIKE, 1);
+        verify(reactionCounterService, never()).increment(TargetType.POST, POST_ID, ReactionType.LIKE, 1);
+    }
+
+    @Test
+    void 반영_중인_요청이_있으면_그_상태를_기준으로_새_요청을_받는다() {
+        queue.submit(USER_ID, TargetType.POST, POST_ID, ReactionType.LIKE);
+
+        // 첫 배치를 반영하는 도중에 같은 (사용자, 대상) 취소 요청이 들어옴
+        AtomicReference<ReactionIngestionQueue.Transition> duringFlush = new AtomicReference<>();
+        doAnswer(invocation -> {
+            duringFlush.set(queue.submit(USER_ID, TargetType.POST, POST_ID, ReactionType.LIKE));
+            return runInTransaction().answer(invocation);
+        }).doAnswer(runInTransaction())
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        queue.flush();
+
+        assertThat(duringFlush.get().original()).isEqualTo(ReactionType.LIKE);
+        assertThat(duringFlush.get().current()).isNull();
+        verify(reactionRepository, times(1)).findByUserIdAndTargetTypeAndTargetId(USER_ID, TargetType.POST, POST_ID);
+
+        queue.flush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), anyList());
+        verify(reactionCounterService).increment(TargetType.POST, POST_ID, ReactionType.LIKE, 1);
+        verify(reactionCounterService).increment(TargetType.POST, POST_ID, ReactionType.LIKE, -1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Answer<Void> runInTransaction() {
+        return invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.community.domain.tag.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void 음절은_초성_중성_종성_호환_자모로_분해된다() {
+        assertThat(HangulJamo.decompose("스프링")).isEqualTo("ㅅㅡㅍㅡㄹㅣㅇ");
+    }
+
+    @Test
+    void 이중모음은_기본_모음으로_나뉜다() {
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+    }
+
+    @Test
+    void 겹받침은_기본_자음으로_나뉜다() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulJamo.decompose("ㄳ")).isEqualTo("ㄱㅅ");
+    }
+
+    @Test
+    void 입력_중인_음절은_완성된_단어의_접두사가_된다() {
+        // 입력 중인 "슾"은 "스프"를 거쳐 "스프링"이 되므로 같은 접두사를 가져야 함
+        assertThat(HangulJamo.decompose("슾")).isEqualTo("ㅅㅡㅍ");
+        assertThat(HangulJamo.decompose("스프링")).startsWith(HangulJamo.decompose("슾"));
+        assertThat(HangulJamo.decompose("스ㅍ")).isEqualTo(HangulJamo.decompose("슾"));
+
+        // 종성이 다음 음절 초성으로 넘어가는 경우 ("읽" → "일기")
+        assertThat(HangulJamo.decompose("일기")).startsWith(HangulJamo.decompose("읽"));
+    }
+
+    @Test
+    void 정규화는_소문자로_바꾸고_공백을_제거한다() {
+        assertThat(HangulJamo.normalize("Spring Boot")).isEqualTo("springboot");
+        assertThat(HangulJamo.decompose(HangulJamo.normalize("Spring Boot"))).isEqualTo("springboot");
+    }
+
+    @Test
+    void 초성_키는_음절의_초성과_한글이_아닌_문자를_유지한다() {
+        assertThat(HangulJamo.choseong(HangulJamo.normalize("스프링 부트"))).isEqualTo("ㅅㅍㄹㅂㅌ");
+        assertThat(HangulJamo.choseong("spring")).isEqualTo("spring");
+    }
+
+    @Test
+    void 자음만으로_된_검색어는_초성_검색어다() {
+        assertThat(HangulJamo.isChoseongOnly("ㅅㅍ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("ㄲ")).isTrue();
+    }
+
+    @Test
+    void 모음_음절_겹자음_빈_문자열은_초성_검색어가_아니다() {
+        assertThat(HangulJamo.isChoseongOnly("ㅅㅡ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("스")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("ㄳ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("a")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("")).isFalse();
+    }
+}
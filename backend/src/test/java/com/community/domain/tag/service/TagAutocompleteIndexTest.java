@@ -0,0 +1,124 @@
+package com.community.domain.tag.service;
+
+import com.community.core.config.properties.RedisKeyProperties;
+import com.community.domain.tag.dto.projection.TagUsage;
+import com.community.domain.tag.dto.response.TagSuggestionResponse;
+import com.community.domain.tag.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagAutocompleteIndexTest {
+
+    private static final List<TagUsage> TAGS = List.of(
+            usage(1L, "스프링", 50),
+            usage(2L, "스프링부트", 80),
+            usage(3L, "스프", 5),
+            usage(4L, "스위프트", 30));
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TagAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagAutocompleteIndex(tagRepository, redisTemplate, new RedisKeyProperties(), listenerContainer);
+    }
+
+    @Test
+    void 접두사가_같은_태그를_사용_횟수_순으로_size_개만_반환한다() {
+        when(tagRepository.findAllUsages()).thenReturn(TAGS);
+        index.reload();
+
+        assertThat(index.suggest("스프", 2))
+                .extracting(TagSuggestionResponse::getName)
+                .containsExactly("스프링부트", "스프링");
+        // 입력 중인 음절("슾")도 자모 접두사로 찾음
+        assertThat(index.suggest("슾", 10))
+                .extracting(TagSuggestionResponse::getName)
+                .containsExactly("스프링부트", "스프링", "스프");
+    }
+
+    @Test
+    void 자음만_입력하면_초성_키로_검색한다() {
+        when(tagRepository.findAllUsages()).thenReturn(TAGS);
+        index.reload();
+
+        assertThat(index.suggest("ㅅㅍ", 10))
+                .extracting(TagSuggestionResponse::getName)
+                .containsExactly("스프링부트", "스프링", "스프");
+        assertThat(index.suggest("ㅅㅇㅍ", 10))
+                .extracting(TagSuggestionResponse::getName)
+                .containsExactly("스위프트");
+        // 모음이 섞이면 초성 키가 아니라 자모 키로 검색
+        assertThat(index.suggest("ㅅㅡ", 10)).hasSize(4);
+    }
+
+    @Test
+    void 생성된_태그는_바로_검색되고_재로딩_후에도_유지된다() {
+        when(tagRepository.findAllUsages())
+                .thenReturn(TAGS)
+                // 생성 커밋 이전에 읽은 목록 (새 태그 없음)
+                .thenReturn(TAGS)
+                .thenReturn(List.of(TAGS.get(0), TAGS.get(1), TAGS.get(2), TAGS.get(3), usage(5L, "스칼라", 3)));
+        index.reload();
+
+        index.onTagsCreated(Map.of("스칼라", 5L));
+        verify(redisTemplate).convertAndSend(anyString(), eq("5:스칼라"));
+        assertThat(index.suggest("스칼", 10))
+                .extracting(TagSuggestionResponse::getId, TagSuggestionResponse::getUsageCount)
+                .containsExactly(tuple(5L, 0));
+
+        // 새 태그가 빠진 목록으로 재로딩해도 증분 추가된 태그는 남음
+        index.reload();
+        assertThat(index.suggest("ㅅㅋ", 10))
+                .extracting(TagSuggestionResponse::getName)
+                .containsExactly("스칼라");
+        assertThat(index.findNames(List.of(5L))).containsEntry(5L, "스칼라");
+
+        // DB에 반영된 뒤에는 새로 읽은 사용 횟수를 사용
+        index.reload();
+        assertThat(index.suggest("스칼", 10))
+                .extracting(TagSuggestionResponse::getId, TagSuggestionResponse::getUsageCount)
+                .containsExactly(tuple(5L, 3));
+        assertThat(index.suggest("스", 10)).hasSize(5);
+    }
+
+    private static TagUsage usage(Long id, String name, int usageCount) {
+        return new TagUsage() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public int getUsageCount() {
+                return usageCount;
+            }
+        };
+    }
+}